@@ -0,0 +1,72 @@
+package Benchmarks;
+
+import UndirectedGraph.ContractionWorkspace;
+import UndirectedGraph.TrialRunner;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide una única corrida de contracción (contraer hasta dos supernodos) con
+ * cada una de las variantes de Karger: la de UndirectedGraph.minimumCut(), 
+ * sobre un ContractionWorkspace; la del grafo ponderado, que sí copia el 
+ * grafo de objetos en cada corrida; y con el DisjointSet sobre el 
+ * CompactGraph. Las dos primeras se miden sobre la repetición misma, con un
+ * workspace que se reutiliza entre corridas (como en cada hilo de 
+ * TrialRunner), sin la verificación de conexidad ni la preparación de 
+ * TrialRunner. La ponderada no tiene workspace: se mide minimumCutWeighted()
+ * con una repetición, que además agrupa los arcos paralelos. El generador 
+ * de cada hilo parte de una semilla fija, para que las corridas sean 
+ * comparables.
+ *
+ * @author paula
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContractionBenchmark {
+
+    /**
+     * Las repeticiones de cada hilo y su generador.
+     */
+    @State(Scope.Thread)
+    public static class Trials {
+        public ContractionWorkspace workspace;
+        public TrialRunner.WitnessTrial compact;
+        public SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp(GraphState state){
+            workspace = new ContractionWorkspace(state.compact);
+            compact = state.compact.trial();
+            random = new SplittableRandom(42);
+        }
+    }
+
+    @Benchmark
+    public int workspaceGraph(Trials trials){
+        return trials.workspace.run(trials.random);
+    }
+
+    @Benchmark
+    public int weightedGraph(GraphState state){
+        return state.graph.minimumCutWeighted(1, 1, 42);
+    }
+
+    @Benchmark
+    public int compactGraph(Trials trials){
+        return trials.compact.run(trials.random);
+    }
+}
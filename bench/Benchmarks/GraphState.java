@@ -0,0 +1,64 @@
+package Benchmarks;
+
+import MinCut.MinCut;
+import UndirectedGraph.CompactGraph;
+import UndirectedGraph.UndirectedGraph;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Estado compartido por los benchmarks: un grafo aleatorio de <b>nodes</b>
+ * vértices en el que cada par de vértices es adyacente con probabilidad 
+ * <b>density</b>, escrito en un archivo temporal con el formato de graph.txt 
+ * y cargado una vez como UndirectedGraph y como CompactGraph. El grafo es 
+ * siempre conexo (se agrega un camino 1-2-...-n) y la semilla es fija, para 
+ * que las corridas sean comparables entre versiones.
+ *
+ * @author paula
+ */
+@State(Scope.Benchmark)
+public class GraphState {
+
+    @Param({"50", "200", "1000"})
+    public int nodes;
+
+    @Param({"0.05", "0.3"})
+    public double density;
+
+    public File file;
+    public UndirectedGraph<Integer> graph;
+    public CompactGraph compact;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = File.createTempFile("mincut-bench", ".txt");
+        Random random = new Random(42);
+        try(BufferedWriter out = Files.newBufferedWriter(file.toPath())){
+            for (int i = 1; i <= nodes; i++) {
+                StringBuilder line = new StringBuilder().append(i);
+                for (int j = i + 1; j <= nodes; j++) {
+                    if (j == i + 1 || random.nextDouble() < density) { line.append(' ').append(j); }
+                }
+                out.write(line.toString());
+                out.newLine();
+            }
+        }
+
+        graph = (UndirectedGraph<Integer>) new MinCut(file.getPath()).createGraph();
+        compact = new MinCut(file.getPath()).createCompactGraph();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        file.delete();
+    }
+}
@@ -0,0 +1,37 @@
+package Benchmarks;
+
+import MinCut.MinCut;
+import UndirectedGraph.CompactGraph;
+import UndirectedGraph.Graph;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide la carga del archivo del grafo con MinCut.createGraph() (objetos Node y
+ * Arc) y con MinCut.createCompactGraph() (arreglos CSR).
+ *
+ * @author paula
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBenchmark {
+
+    @Benchmark
+    public Graph<Integer> createGraph(GraphState state){
+        return new MinCut(state.file.getPath()).createGraph();
+    }
+
+    @Benchmark
+    public CompactGraph createCompactGraph(GraphState state){
+        return new MinCut(state.file.getPath()).createCompactGraph();
+    }
+}
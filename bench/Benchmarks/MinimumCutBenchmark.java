@@ -0,0 +1,60 @@
+package Benchmarks;
+
+import UndirectedGraph.CutResult;
+import UndirectedGraph.KargerStein;
+import UndirectedGraph.NagamochiIbaraki;
+import UndirectedGraph.StoerWagner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide el cálculo completo del corte mínimo con cada motor, con una cantidad
+ * fija de repeticiones y una semilla fija para los algoritmos aleatorios.
+ *
+ * @author paula
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MinimumCutBenchmark {
+
+    @Param({"100"})
+    public int iterations;
+
+    @Benchmark
+    public int minimumCut(GraphState state){
+        return state.graph.minimumCut(iterations, 1, 42);
+    }
+
+    @Benchmark
+    public int minimumCutCompact(GraphState state){
+        return state.compact.minimumCut(iterations, 1, 42);
+    }
+
+    @Benchmark
+    public int minimumCutKargerStein(GraphState state){
+        return new KargerStein(state.compact).minimumCut(1, 1, 42);
+    }
+
+    @Benchmark
+    public CutResult minimumCutStoerWagner(GraphState state){
+        return new StoerWagner(state.compact).minimumCut();
+    }
+
+    @Benchmark
+    public int minimumCutNagamochiIbaraki(GraphState state){
+        return new NagamochiIbaraki(state.compact).minimumCut();
+    }
+}
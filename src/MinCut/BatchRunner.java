@@ -0,0 +1,250 @@
+package MinCut;
+
+import UndirectedGraph.CompactGraph;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Calcula el corte mínimo de muchos grafos en una sola ejecución de la JVM,
+ * de modo que el arranque y la compilación JIT se pagan una sola vez. Los
+ * grafos se toman de un directorio (todos sus archivos, en orden alfabético)
+ * o de un manifiesto (un archivo de texto con una ruta por línea, relativa al
+ * manifiesto; las líneas vacías y las que empiezan con # se ignoran).
+ *
+ * Cada grafo es un trabajo que lo lee (en cualquier formato que lea MinCut) y
+ * lo resuelve en un único hilo; los trabajos se ejecutan en un pool de tamaño
+ * fijo. El resultado de cada trabajo se escribe en cuanto termina (no en el
+ * orden de entrada), una línea por grafo, en CSV o en JSON lines según la
+ * extensión del archivo de salida (.csv, o .jsonl / .json). Un grafo que no
+ * puede leerse o resolverse (incluso por un Error, como quedarse sin memoria
+ * con un grafo demasiado grande) no detiene a los demás: su línea lleva el
+ * error.
+ *
+ * Uso desde la línea de comandos:
+ *
+ *   BatchRunner [--threads t] [--iterations k | --confidence d] [--seed s] entrada salida
+ *
+ * Por defecto se usan tantos hilos como procesadores, y la cantidad de
+ * repeticiones se elige para una probabilidad de falla de 0.01 (ver
+ * CompactGraph.minimumCutWithConfidence()).
+ *
+ * @author paula
+ */
+public class BatchRunner {
+    private final int threads;
+    private final int iterations;
+    private final double confidence;
+    private final long seed;
+
+    /**
+     * Crea un BatchRunner que usa <b>threads</b> hilos. Si <b>iterations</b>
+     * es positivo, cada grafo se resuelve con esa cantidad de repeticiones; si
+     * no, con la cantidad necesaria para una probabilidad de falla
+     * <b>confidence</b>.
+     * @param threads la cantidad de hilos (al menos 1).
+     * @param iterations la cantidad de repeticiones, o 0.
+     * @param confidence la probabilidad de falla aceptada, en (0, 1).
+     * @param seed la semilla general, la misma para cada grafo.
+     */
+    public BatchRunner(int threads, int iterations, double confidence, long seed){
+        if (threads < 1) { throw new IllegalArgumentException("Error: la cantidad de hilos debe ser al menos 1..."); }
+        this.threads = threads;
+        this.iterations = iterations;
+        this.confidence = confidence;
+        this.seed = seed;
+    }
+
+    /**
+     * Retorna los grafos a resolver: los archivos de <b>input</b> si es un
+     * directorio, o los listados en él si es un manifiesto.
+     * @param input un directorio o un manifiesto.
+     * @return los archivos de los grafos.
+     * @throws IOException si no se puede leer input.
+     */
+    public static List<File> listGraphs(File input) throws IOException {
+        List<File> files = new ArrayList<>();
+        if (input.isDirectory()) {
+            File [] all = input.listFiles(File::isFile);
+            if (all == null) { throw new IOException("Error: no se puede leer el directorio " + input); }
+            Arrays.sort(all);
+            files.addAll(Arrays.asList(all));
+            return files;
+        }
+
+        File base = input.getAbsoluteFile().getParentFile();
+        try(BufferedReader in = Files.newBufferedReader(input.toPath())){
+            for (String line = in.readLine(); line != null; line = in.readLine()) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) { continue; }
+                File f = new File(line);
+                files.add(f.isAbsolute() ? f : new File(base, line));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Resuelve los grafos de <b>files</b> y escribe una línea por grafo en
+     * <b>output</b>, a medida que terminan.
+     * @param files los grafos a resolver.
+     * @param output el archivo de resultados (.csv, o .jsonl / .json).
+     * @return la cantidad de grafos que no pudieron resolverse.
+     * @throws IOException si no se puede escribir output.
+     * @throws InterruptedIOException si el hilo se interrumpe antes de
+     * terminar (output queda con los grafos ya resueltos).
+     */
+    public int run(List<File> files, File output) throws IOException {
+        boolean json = output.getName().endsWith(".jsonl") || output.getName().endsWith(".json");
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CompletionService<Result> done = new ExecutorCompletionService<>(pool);
+        Map<Future<Result>, File> jobs = new HashMap<>();
+        int failed = 0;
+        int written = 0;
+        try(PrintWriter out = new PrintWriter(Files.newBufferedWriter(output.toPath()))){
+            if (!json) { out.println(Result.CSV_HEADER); }
+            for (File f : files) { jobs.put(done.submit(() -> solve(f)), f); }
+
+            for (; written < files.size(); written++) {
+                Future<Result> job = done.take();
+                Result r;
+                try{
+                    r = job.get();
+                }
+                catch(ExecutionException e){
+                    // un Error (por ejemplo, falta de memoria) en un trabajo
+                    // sólo arruina su grafo...
+                    r = new Result(jobs.get(job));
+                    r.error = e.getCause().toString();
+                }
+                if (r.error != null) { failed++; }
+                out.println(json ? r.toJson() : r.toCsv());
+                out.flush();
+            }
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Error: lote interrumpido después de " + written + " de " + files.size() + " grafos...");
+        }
+        finally{
+            pool.shutdownNow();
+        }
+        return failed;
+    }
+
+    // lee y resuelve un grafo; los errores quedan en el resultado...
+    private Result solve(File file){
+        Result r = new Result(file);
+        try{
+            long start = System.nanoTime();
+            CompactGraph g = MinCut.readCompactGraph(file);
+            long loaded = System.nanoTime();
+            r.nodes = g.countNodes();
+            r.edges = g.countEdges();
+            r.cut = iterations > 0 ? g.minimumCut(iterations, 1, seed) : g.minimumCutWithConfidence(confidence, 1, seed);
+            r.loadMillis = (loaded - start) / 1000000;
+            r.solveMillis = (System.nanoTime() - loaded) / 1000000;
+        }
+        catch(IOException | RuntimeException e){
+            r.error = e.toString();
+        }
+        return r;
+    }
+
+    // el resultado de un trabajo...
+    private static class Result {
+        static final String CSV_HEADER = "file,nodes,edges,cut,load_ms,solve_ms,error";
+
+        final File file;
+        int nodes, edges, cut = -1;
+        long loadMillis, solveMillis;
+        String error;
+
+        Result(File file){
+            this.file = file;
+        }
+
+        String toCsv(){
+            return csv(file.getPath()) + "," + nodes + "," + edges + "," + cut + "," + loadMillis + "," + solveMillis + "," + (error == null ? "" : csv(error));
+        }
+
+        String toJson(){
+            return "{\"file\":" + json(file.getPath()) + ",\"nodes\":" + nodes + ",\"edges\":" + edges + ",\"cut\":" + cut
+                    + ",\"load_ms\":" + loadMillis + ",\"solve_ms\":" + solveMillis + ",\"error\":" + (error == null ? "null" : json(error)) + "}";
+        }
+
+        // entre comillas, si hace falta...
+        private static String csv(String s){
+            if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0) { return s; }
+            return "\"" + s.replace("\"", "\"\"") + "\"";
+        }
+
+        private static String json(String s){
+            StringBuilder b = new StringBuilder("\"");
+            for (char c : s.toCharArray()) {
+                if (c == '"' || c == '\\') { b.append('\\').append(c); }
+                else if (c < 0x20) { b.append(String.format("\\u%04x", (int) c)); }
+                else { b.append(c); }
+            }
+            return b.append('"').toString();
+        }
+    }
+
+    /**
+     * @param args [--threads t] [--iterations k | --confidence d] [--seed s] entrada salida
+     */
+    public static void main(String[] args) throws IOException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        int iterations = 0;
+        double confidence = 0.01;
+        long seed = 1;
+        boolean byIterations = false, byConfidence = false;
+        String usage = "Uso: BatchRunner [--threads t] [--iterations k | --confidence d] [--seed s] entrada salida";
+
+        // todas las opciones llevan un valor; una opción desconocida, sin
+        // valor, o --iterations junto con --confidence, es un error...
+        int i = 0;
+        try {
+            for (; i < args.length && args[i].startsWith("--"); i++) {
+                if (i + 1 == args.length) {
+                    System.out.println(usage);
+                    return;
+                }
+                if (args[i].equals("--threads")) { threads = Integer.parseInt(args[++i]); }
+                else if (args[i].equals("--iterations")) { iterations = Integer.parseInt(args[++i]); byIterations = true; }
+                else if (args[i].equals("--confidence")) { confidence = Double.parseDouble(args[++i]); byConfidence = true; }
+                else if (args[i].equals("--seed")) { seed = Long.parseLong(args[++i]); }
+                else {
+                    System.out.println(usage);
+                    return;
+                }
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("Error: parámetro no numérico: " + e.getMessage());
+            return;
+        }
+        if (args.length - i != 2 || (byIterations && byConfidence)) {
+            System.out.println(usage);
+            return;
+        }
+
+        List<File> files = listGraphs(new File(args[i]));
+        long start = System.nanoTime();
+        int failed = new BatchRunner(threads, iterations, confidence, seed).run(files, new File(args[i + 1]));
+        System.out.println(files.size() + " grafos (" + failed + " con errores) en " + (System.nanoTime() - start) / 1000000 + " ms");
+    }
+}
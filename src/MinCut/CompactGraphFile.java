@@ -0,0 +1,166 @@
+package MinCut;
+
+import UndirectedGraph.CompactGraph;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lee y escribe un CompactGraph en un formato binario que es una copia de sus
+ * arreglos, de modo que al leerlo no hay nada que convertir: el archivo se
+ * mapea en memoria con FileChannel.map() y el grafo usa las vistas del archivo
+ * directamente (ver CompactGraph(int, IntBuffer, IntBuffer, IntBuffer,
+ * IntBuffer)). Abrir un grafo cuesta lo mismo sin importar su tamaño, y casi
+ * no usa memoria del heap: el sistema operativo carga las páginas a medida que
+ * se recorren, y las comparte entre ejecuciones.
+ *
+ * El formato es (todos los enteros de 4 bytes, big-endian):
+ *
+ * - la cabecera MAGIC, n y m.
+ * - offsets: n + 1 enteros.
+ * - targets: 2m enteros.
+ * - begins y ends: m enteros cada uno, los extremos de cada arco, que los
+ *   algoritmos usan para elegir arcos al azar sin recorrer las listas.
+ *
+ * Los vértices se guardan numerados desde 0, y al leerlos sus valores son
+ * 1..n. El formato no guarda pesos. Cada sección se mapea por separado, así
+ * que el archivo puede superar los 2 GB mientras cada sección no lo haga.
+ *
+ * Uso desde la línea de comandos (para convertir un grafo en texto, o en el
+ * formato binario de GraphWriter):
+ *
+ *   CompactGraphFile entrada salida
+ *
+ * @author paula
+ */
+public class CompactGraphFile {
+
+    /** La cabecera del formato binario CSR ("MCG1"). */
+    public static final int MAGIC = 0x4D434731;
+
+    // el tamaño de la cabecera: MAGIC, n y m...
+    private static final int HEADER = 12;
+
+    private CompactGraphFile(){
+    }
+
+    /**
+     * Escribe el grafo <b>g</b> en <b>file</b>.
+     * @param g el grafo a escribir.
+     * @param file el archivo a escribir.
+     * @throws IOException si no se puede escribir.
+     * @throws IllegalArgumentException si el grafo es ponderado.
+     */
+    public static void write(CompactGraph g, File file) throws IOException {
+        if (g.isWeighted()) { throw new IllegalArgumentException("Error: el formato no admite grafos ponderados..."); }
+
+        int n = g.countNodes(), m = g.countEdges();
+        try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath()), 1 << 16))){
+            out.writeInt(MAGIC);
+            out.writeInt(n);
+            out.writeInt(m);
+
+            int offset = 0;
+            out.writeInt(offset);
+            for (int v = 0; v < n; v++) {
+                offset += g.degree(v);
+                out.writeInt(offset);
+            }
+            for (int v = 0; v < n; v++) {
+                for (int i = 0; i < g.degree(v); i++) { out.writeInt(g.neighbor(v, i)); }
+            }
+            for (int e = 0; e < m; e++) { out.writeInt(g.begin(e)); }
+            for (int e = 0; e < m; e++) { out.writeInt(g.end(e)); }
+        }
+    }
+
+    /**
+     * Mapea <b>file</b> en memoria y retorna el grafo que contiene, sin
+     * copiarlo. Sólo se verifican la cabecera y el tamaño del archivo, no su
+     * contenido, y el archivo no debe modificarse mientras se use el grafo.
+     * @param file el archivo a leer.
+     * @return el grafo del archivo.
+     * @throws IOException si no se puede leer, o no tiene el formato esperado.
+     */
+    public static CompactGraph map(File file) throws IOException {
+        try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+            ByteBuffer header = ByteBuffer.allocate(HEADER);
+            while (header.hasRemaining() && channel.read(header) != -1) { }
+            header.flip();
+            if (header.remaining() < HEADER || header.getInt() != MAGIC) { throw new IOException("Error: " + file + " no es un grafo compacto..."); }
+
+            int n = header.getInt();
+            int m = header.getInt();
+            if (n < 0 || m < 0 || channel.size() != HEADER + 4L * (n + 1 + 4L * m)) { throw new IOException("Error: " + file + " está incompleto o dañado..."); }
+
+            long position = HEADER;
+            IntBuffer offsets = section(channel, position, n + 1);
+            position += 4L * (n + 1);
+            IntBuffer targets = section(channel, position, 2L * m);
+            position += 8L * m;
+            IntBuffer begins = section(channel, position, m);
+            position += 4L * m;
+            IntBuffer ends = section(channel, position, m);
+
+            return new CompactGraph(n, offsets, targets, begins, ends);
+        }
+    }
+
+    /**
+     * Retorna true si <b>file</b> comienza con la cabecera de este formato.
+     * @param file el archivo a revisar.
+     * @return true si el archivo es un grafo compacto.
+     * @throws IOException si no se puede leer.
+     */
+    public static boolean isCompactGraphFile(File file) throws IOException {
+        try(InputStream in = Files.newInputStream(file.toPath())){
+            return new DataInputStream(in).readInt() == MAGIC;
+        }
+        catch(EOFException e){
+            return false;
+        }
+    }
+
+    /**
+     * Lee el grafo de <b>text</b> (en cualquier formato que lea MinCut) y lo
+     * escribe en <b>out</b> en este formato.
+     * @param text el archivo a convertir.
+     * @param out el archivo a escribir.
+     * @return el grafo convertido.
+     * @throws IOException si no se puede leer o escribir.
+     */
+    public static CompactGraph convert(File text, File out) throws IOException {
+        CompactGraph g = MinCut.readCompactGraph(text);
+        write(g, out);
+        return g;
+    }
+
+    // mapea count enteros a partir de position...
+    private static IntBuffer section(FileChannel channel, long position, long count) throws IOException {
+        if (4 * count > Integer.MAX_VALUE) { throw new IOException("Error: una sección del grafo supera los 2 GB..."); }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, 4 * count).asIntBuffer();
+    }
+
+    /**
+     * @param args entrada salida
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Uso: CompactGraphFile entrada salida");
+            return;
+        }
+
+        long start = System.nanoTime();
+        CompactGraph g = convert(new File(args[0]), new File(args[1]));
+        System.out.println(g.countNodes() + " vértices, " + g.countEdges() + " arcos, convertido en " + (System.nanoTime() - start) / 1000000 + " ms");
+    }
+}
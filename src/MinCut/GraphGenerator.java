@@ -0,0 +1,264 @@
+package MinCut;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Genera grafos sintéticos para pruebas de escala, escribiéndolos vértice por
+ * vértice con un GraphWriter (en texto o en binario), de modo que nunca es
+ * necesario tener el grafo completo en memoria. Cada método retorna el corte
+ * mínimo conocido del grafo generado, o -1 si no se lo conoce de antemano:
+ *
+ * - erdosRenyi: G(n, p), cada par de vértices es adyacente con probabilidad p
+ *   (corte desconocido).
+ * - barbell: dos cliques de k vértices unidas por b < k arcos disjuntos 
+ *   (corte b).
+ * - grid: una grilla de rows x cols (corte 2, o 1 si es un camino).
+ * - plantedPartition: dos grupos, cada uno un grafo circulante en el que cada
+ *   vértice se une con los d siguientes de su grupo (conectividad 2d), más
+ *   arcos internos al azar, unidos por c arcos al azar (corte c si c < 2d).
+ *
+ * Uso desde la línea de comandos:
+ *
+ *   GraphGenerator [--binary] [--seed s] er n p salida
+ *   GraphGenerator [--binary] [--seed s] barbell k b salida
+ *   GraphGenerator [--binary] [--seed s] grid rows cols salida
+ *   GraphGenerator [--binary] [--seed s] planted n1 n2 d c p salida
+ *
+ * @author paula
+ */
+public class GraphGenerator {
+    private final Random random;
+
+    // los vecinos mayores del vértice que se está generando...
+    private int [] neighbors = new int[16];
+    private int count;
+
+    public GraphGenerator(long seed){
+        random = new Random(seed);
+    }
+
+    /**
+     * Genera un grafo G(n, p).
+     * @param n la cantidad de vértices.
+     * @param p la probabilidad de cada arco.
+     * @param out el destino del grafo.
+     * @return -1 (el corte mínimo no se conoce de antemano).
+     * @throws IOException si no se puede escribir.
+     */
+    public int erdosRenyi(int n, double p, GraphWriter out) throws IOException {
+        for (int v = 1; v <= n; v++) {
+            count = 0;
+            randomNeighbors(v + 1, n, p);
+            out.vertex(neighbors, count);
+        }
+        return -1;
+    }
+
+    /**
+     * Genera dos cliques de <b>k</b> vértices (1..k y k+1..2k) unidas por los
+     * arcos (i, k + i) para i = 1..b.
+     * @param k la cantidad de vértices de cada clique.
+     * @param b la cantidad de arcos entre las cliques (0 <= b < k).
+     * @param out el destino del grafo.
+     * @return el corte mínimo, b (partir una clique cuesta al menos k - 1).
+     * @throws IOException si no se puede escribir.
+     */
+    public int barbell(int k, int b, GraphWriter out) throws IOException {
+        if (k < 2 || b < 0 || b >= k) { throw new IllegalArgumentException("Error: se necesita k >= 2 y 0 <= b < k..."); }
+
+        for (int v = 1; v <= 2 * k; v++) {
+            count = 0;
+            int last = v <= k ? k : 2 * k;
+            for (int w = v + 1; w <= last; w++) { add(w); }
+            if (v <= b) { add(k + v); }
+            out.vertex(neighbors, count);
+        }
+        return b;
+    }
+
+    /**
+     * Genera una grilla de <b>rows</b> filas y <b>cols</b> columnas, donde el
+     * vértice de la fila r y la columna c es r * cols + c + 1.
+     * @param rows la cantidad de filas.
+     * @param cols la cantidad de columnas.
+     * @param out el destino del grafo.
+     * @return el corte mínimo: 2, o 1 si la grilla es un camino.
+     * @throws IOException si no se puede escribir.
+     */
+    public int grid(int rows, int cols, GraphWriter out) throws IOException {
+        if (rows < 1 || cols < 1 || rows * cols < 2) { throw new IllegalArgumentException("Error: la grilla debe tener al menos dos vértices..."); }
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                count = 0;
+                int v = r * cols + c + 1;
+                if (c + 1 < cols) { add(v + 1); }
+                if (r + 1 < rows) { add(v + cols); }
+                out.vertex(neighbors, count);
+            }
+        }
+        return rows == 1 || cols == 1 ? 1 : 2;
+    }
+
+    /**
+     * Genera dos grupos de <b>n1</b> y <b>n2</b> vértices (1..n1 y
+     * n1+1..n1+n2). Dentro de cada grupo, cada vértice se une con los
+     * <b>d</b> siguientes en forma circular, y cada otro par se une con
+     * probabilidad <b>p</b>. Entre los grupos hay <b>c</b> arcos distintos
+     * elegidos al azar. Como cada grupo tiene conectividad al menos 2d, si
+     * c < 2d el único corte mínimo es el que separa los grupos.
+     * @param n1 la cantidad de vértices del primer grupo.
+     * @param n2 la cantidad de vértices del segundo grupo.
+     * @param d los vecinos circulares de cada vértice hacia cada lado.
+     * @param c la cantidad de arcos entre los grupos.
+     * @param p la probabilidad de los arcos internos adicionales.
+     * @param out el destino del grafo.
+     * @return c si c < 2d, o -1 si no.
+     * @throws IOException si no se puede escribir.
+     */
+    public int plantedPartition(int n1, int n2, int d, int c, double p, GraphWriter out) throws IOException {
+        if (d < 1 || n1 <= 2 * d || n2 <= 2 * d) { throw new IllegalArgumentException("Error: cada grupo necesita más de 2d vértices..."); }
+        if (c < 0 || (long) n1 * n2 < c) { throw new IllegalArgumentException("Error: cantidad de arcos entre grupos inválida..."); }
+
+        // los arcos entre grupos, ordenados por su extremo en el primer grupo...
+        long [] crossing = new long[c];
+        for (int i = 0; i < c; i++) {
+            long x;
+            do {
+                x = (long) (1 + random.nextInt(n1)) << 32 | (n1 + 1 + random.nextInt(n2));
+            } while (contains(crossing, i, x));
+            crossing[i] = x;
+        }
+        Arrays.sort(crossing);
+
+        int next = 0;
+        for (int v = 1; v <= n1 + n2; v++) {
+            count = 0;
+            int first = v <= n1 ? 1 : n1 + 1;
+            int size = v <= n1 ? n1 : n2;
+            for (int t = 1; t <= d; t++) {
+                int fwd = first + (v - first + t) % size;
+                int back = first + (v - first - t + size) % size;
+                if (fwd > v) { add(fwd); }
+                if (back > v) { add(back); }
+            }
+            randomNeighbors(v + 1, first + size - 1, p);
+            while (next < c && (crossing[next] >>> 32) == v) { add((int) crossing[next++]); }
+
+            Arrays.sort(neighbors, 0, count);
+            int unique = 0;
+            for (int i = 0; i < count; i++) {
+                if (unique == 0 || neighbors[unique - 1] != neighbors[i]) { neighbors[unique++] = neighbors[i]; }
+            }
+            out.vertex(neighbors, unique);
+        }
+        return c < 2 * d ? c : -1;
+    }
+
+    // agrega cada vértice de from..to como vecino con probabilidad p, saltando
+    // directamente al siguiente vecino con una distribución geométrica...
+    private void randomNeighbors(int from, int to, double p){
+        if (p <= 0) { return; }
+        double logq = Math.log(1 - p);
+        for (long w = from - 1; ; ) {
+            w += p >= 1 ? 1 : 1 + (long) Math.floor(Math.log(1 - random.nextDouble()) / logq);
+            if (w > to) { return; }
+            add((int) w);
+        }
+    }
+
+    private void add(int w){
+        if (count == neighbors.length) { neighbors = Arrays.copyOf(neighbors, 2 * count); }
+        neighbors[count++] = w;
+    }
+
+    private static boolean contains(long [] a, int size, long x){
+        for (int i = 0; i < size; i++) {
+            if (a[i] == x) { return true; }
+        }
+        return false;
+    }
+
+    // la escritura de un grafo ya parametrizado, que retorna su corte 
+    // conocido...
+    private interface Generation {
+        int write(GraphWriter out) throws IOException;
+    }
+
+    /**
+     * @param args [--binary] [--seed s] tipo parámetros... salida
+     */
+    public static void main(String[] args) throws IOException {
+        boolean binary = false;
+        long seed = 1;
+        int i = 0;
+        for (; i < args.length && args[i].startsWith("--"); i++) {
+            if (args[i].equals("--binary")) { binary = true; }
+            else if (args[i].equals("--seed")) { seed = Long.parseLong(args[++i]); }
+        }
+        String usage = "Uso: GraphGenerator [--binary] [--seed s] (er n p | barbell k b | grid rows cols | planted n1 n2 d c p) salida";
+        if (args.length - i < 2) {
+            System.out.println(usage);
+            return;
+        }
+
+        // se validan y leen todos los parámetros antes de crear la salida,
+        // para no dejar un archivo vacío si hay un error...
+        GraphGenerator generator = new GraphGenerator(seed);
+        String type = args[i];
+        int parameters = args.length - i - 2;
+        Generation generation;
+        try {
+            switch (type) {
+                case "er": {
+                    if (parameters != 2) { System.out.println(usage); return; }
+                    int n = Integer.parseInt(args[i + 1]);
+                    double p = Double.parseDouble(args[i + 2]);
+                    generation = out -> generator.erdosRenyi(n, p, out);
+                    break;
+                }
+                case "barbell": {
+                    if (parameters != 2) { System.out.println(usage); return; }
+                    int k = Integer.parseInt(args[i + 1]);
+                    int b = Integer.parseInt(args[i + 2]);
+                    generation = out -> generator.barbell(k, b, out);
+                    break;
+                }
+                case "grid": {
+                    if (parameters != 2) { System.out.println(usage); return; }
+                    int rows = Integer.parseInt(args[i + 1]);
+                    int cols = Integer.parseInt(args[i + 2]);
+                    generation = out -> generator.grid(rows, cols, out);
+                    break;
+                }
+                case "planted": {
+                    if (parameters != 5) { System.out.println(usage); return; }
+                    int n1 = Integer.parseInt(args[i + 1]);
+                    int n2 = Integer.parseInt(args[i + 2]);
+                    int d = Integer.parseInt(args[i + 3]);
+                    int c = Integer.parseInt(args[i + 4]);
+                    double p = Double.parseDouble(args[i + 5]);
+                    generation = out -> generator.plantedPartition(n1, n2, d, c, p, out);
+                    break;
+                }
+                default:
+                    System.out.println("Tipo de grafo desconocido: " + type);
+                    return;
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("Error: parámetro no numérico: " + e.getMessage());
+            return;
+        }
+
+        File file = new File(args[args.length - 1]);
+        int known;
+        try(GraphWriter out = binary ? GraphWriter.binary(file) : GraphWriter.text(file)){
+            known = generation.write(out);
+            System.out.println(out.countNodes() + " vértices, " + out.countEdges() + " arcos");
+        }
+        System.out.println("Corte mínimo conocido: " + (known < 0 ? "desconocido" : known));
+    }
+}
@@ -0,0 +1,138 @@
+package MinCut;
+
+import UndirectedGraph.CompactGraph;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * Lee un grafo en el formato de listas de adyacencia de graph.txt en una sola
+ * pasada, sin cargar el archivo en memoria: la línea i del archivo contiene
+ * los vecinos del vértice i (numerados desde 1), y cada arco se toma de la
+ * línea de su vértice menor. Los arcos leídos se entregan a un EdgeSink a
+ * medida que se encuentran, de modo que la memoria usada es O(n) además de la
+ * que use el EdgeSink, y el tiempo es lineal en el tamaño del archivo.
+ * 
+ * También lee el formato binario de lista de arcos de GraphWriter y el formato
+ * CSR de CompactGraphFile, que se reconocen por su cabecera.
+ *
+ * @author paula
+ */
+public class GraphReader {
+
+    /**
+     * Recibe los arcos leídos por un GraphReader.
+     */
+    public interface EdgeSink {
+        /**
+         * Recibe el arco que une los vértices u y v (numerados desde 1), con
+         * u < v.
+         * @param u el vértice menor.
+         * @param v el vértice mayor.
+         */
+        void edge(int u, int v);
+    }
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final File file;
+
+    public GraphReader(File file){
+        this.file = file;
+    }
+
+    /**
+     * Lee el archivo y entrega cada arco a <b>sink</b>. Los vecinos repetidos
+     * en una misma línea se entregan una sola vez.
+     * @param sink el destino de los arcos leídos.
+     * @return la cantidad de vértices (líneas) del archivo.
+     * @throws IOException si el archivo no puede leerse.
+     * @throws NumberFormatException si el archivo contiene algo que no sea un
+     *         número de vértice.
+     */
+    public int read(EdgeSink sink) throws IOException {
+        try(InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath()), BUFFER_SIZE)){
+            in.mark(4);
+            int magic = 0;
+            for (int k = 0; k < 4; k++) { magic = (magic << 8) | (in.read() & 0xFF); }
+            if (magic == GraphWriter.MAGIC) { return readBinary(new DataInputStream(in), sink); }
+            if (magic == CompactGraphFile.MAGIC) { return readCompact(sink); }
+            
+            in.reset();
+            return readText(in, sink);
+        }
+    }
+
+    private int readText(InputStream in, EdgeSink sink) throws IOException {
+        byte [] buffer = new byte[BUFFER_SIZE];
+        int [] seen = new int[16];
+        int line = 1;
+        int value = 0;
+        boolean inNumber = false, lineHasData = false;
+
+        int read;
+        while((read = in.read(buffer)) != -1){
+            for (int k = 0; k < read; k++) {
+                byte c = buffer[k];
+                if (c >= '0' && c <= '9') {
+                    value = 10 * value + (c - '0');
+                    inNumber = true;
+                    lineHasData = true;
+                    continue;
+                }
+                if (c != ' ' && c != '\t' && c != '\r' && c != '\n') {
+                    throw new NumberFormatException("Caracter inválido en la línea " + line + ": " + (char) c);
+                }
+                if (inNumber) {
+                    seen = neighbor(sink, line, value, seen);
+                    value = 0;
+                    inNumber = false;
+                }
+                if (c == '\n') {
+                    line++;
+                    lineHasData = false;
+                }
+            }
+        }
+        if (inNumber) { neighbor(sink, line, value, seen); }
+
+        return lineHasData ? line : line - 1;
+    }
+
+    // la cabecera ya fue leída: n, m y los m pares de vértices...
+    private int readBinary(DataInputStream in, EdgeSink sink) throws IOException {
+        int n = in.readInt();
+        long m = in.readLong();
+        for (long i = 0; i < m; i++) {
+            int u = in.readInt();
+            int v = in.readInt();
+            sink.edge(u, v);
+        }
+        return n;
+    }
+
+    // mapea el grafo compacto y entrega sus arcos, salvo los lazos...
+    private int readCompact(EdgeSink sink) throws IOException {
+        CompactGraph g = CompactGraphFile.map(file);
+        for (int e = 0; e < g.countEdges(); e++) {
+            int u = g.begin(e) + 1, v = g.end(e) + 1;
+            if (u != v) { sink.edge(Math.min(u, v), Math.max(u, v)); }
+        }
+        return g.countNodes();
+    }
+
+    // entrega el arco (line, j) si j es mayor y no se repite en la línea...
+    private static int [] neighbor(EdgeSink sink, int line, int j, int [] seen){
+        if (j <= line) { return seen; }
+        if (j >= seen.length) { seen = Arrays.copyOf(seen, Math.max(j + 1, 2 * seen.length)); }
+        if (seen[j] != line) {
+            seen[j] = line;
+            sink.edge(line, j);
+        }
+        return seen;
+    }
+}
@@ -0,0 +1,137 @@
+package MinCut;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.file.Files;
+
+/**
+ * Escribe un grafo vértice por vértice, en orden (1, 2, ..., n), sin guardarlo
+ * en memoria. Por cada vértice v se reciben sus vecinos mayores que v (cada
+ * arco se escribe una sola vez, en la línea de su vértice menor, que es como
+ * lo lee GraphReader). Hay dos formatos:
+ *
+ * - texto: el formato de graph.txt, una línea "v w1 w2 ..." por vértice.
+ * - binario: la cabecera MAGIC, n (int) y m (long), seguida de m pares de
+ *   int (u, v) con u < v, numerados desde 1. GraphReader reconoce este formato
+ *   por la cabecera, y lo lee sin tener que convertir texto a números.
+ *
+ * @author paula
+ */
+public abstract class GraphWriter implements Closeable {
+
+    /** La cabecera del formato binario de lista de arcos ("MCE1"). */
+    public static final int MAGIC = 0x4D434531;
+
+    // la cantidad de vértices y de arcos escritos hasta ahora...
+    protected int n;
+    protected long m;
+
+    /**
+     * Escribe el siguiente vértice (n + 1) y los primeros <b>count</b> vecinos
+     * de <b>neighbors</b>, que deben ser mayores que el vértice y distintos.
+     * @param neighbors los vecinos mayores del vértice.
+     * @param count la cantidad de vecinos.
+     * @throws IOException si no se puede escribir.
+     */
+    public abstract void vertex(int [] neighbors, int count) throws IOException;
+
+    /**
+     * Retorna la cantidad de vértices escritos.
+     * @return la cantidad de vértices.
+     */
+    public int countNodes(){
+        return n;
+    }
+
+    /**
+     * Retorna la cantidad de arcos escritos.
+     * @return la cantidad de arcos.
+     */
+    public long countEdges(){
+        return m;
+    }
+
+    /**
+     * Crea un GraphWriter que escribe el formato de texto en <b>file</b>.
+     * @param file el archivo a escribir.
+     * @return el GraphWriter creado.
+     * @throws IOException si no se puede crear el archivo.
+     */
+    public static GraphWriter text(File file) throws IOException {
+        return new TextWriter(Files.newBufferedWriter(file.toPath()));
+    }
+
+    /**
+     * Crea un GraphWriter que escribe el formato binario en <b>file</b>.
+     * @param file el archivo a escribir.
+     * @return el GraphWriter creado.
+     * @throws IOException si no se puede crear el archivo.
+     */
+    public static GraphWriter binary(File file) throws IOException {
+        return new BinaryWriter(file);
+    }
+
+    private static class TextWriter extends GraphWriter {
+        private final Writer out;
+
+        TextWriter(BufferedWriter out){
+            this.out = out;
+        }
+
+        @Override
+        public void vertex(int [] neighbors, int count) throws IOException {
+            out.write(Integer.toString(++n));
+            for (int i = 0; i < count; i++) {
+                out.write(' ');
+                out.write(Integer.toString(neighbors[i]));
+            }
+            out.write('\n');
+            m += count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    private static class BinaryWriter extends GraphWriter {
+        private final File file;
+        private final DataOutputStream out;
+
+        BinaryWriter(File file) throws IOException {
+            this.file = file;
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath()), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeInt(0);
+            out.writeLong(0);
+        }
+
+        @Override
+        public void vertex(int [] neighbors, int count) throws IOException {
+            n++;
+            for (int i = 0; i < count; i++) {
+                out.writeInt(n);
+                out.writeInt(neighbors[i]);
+            }
+            m += count;
+        }
+
+        // al cerrar se completa la cabecera con n y m...
+        @Override
+        public void close() throws IOException {
+            out.close();
+            try(RandomAccessFile header = new RandomAccessFile(file, "rw")){
+                header.seek(4);
+                header.writeInt(n);
+                header.writeLong(m);
+            }
+        }
+    }
+}
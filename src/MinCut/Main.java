@@ -5,8 +5,9 @@
  */
 package MinCut;
 
-import UndirectedGraph.UndirectedGraph;
+import UndirectedGraph.CompactGraph;
 import java.io.IOException;
+import java.util.Scanner;
 
 /**
  *
@@ -15,16 +16,30 @@ import java.io.IOException;
 public class Main {
 
     /**
+     * Sin argumentos, calcula el corte mínimo de graph.txt con la cantidad de
+     * repeticiones que se ingrese. Con argumentos, resuelve muchos grafos con
+     * BatchRunner (ver BatchRunner.main()).
      * @param args the command line arguments
      */
     public static void main(String[] args) throws IOException {
+        if (args.length > 0) {
+            BatchRunner.main(args);
+            return;
+        }
+        
         MinCut readGraph = new MinCut("graph.txt");
-        UndirectedGraph <Integer> uGraph = (UndirectedGraph<Integer>) readGraph.createGraph();
+        CompactGraph cGraph = readGraph.createCompactGraph();
+        if (cGraph == null) { return; }
         int iterations;
         System.out.println("Number of iterations: ");
-        iterations = System.in.read();
+        Scanner in = new Scanner(System.in);
+        if (!in.hasNextInt()) {
+            System.out.println("Error: se esperaba un número de iteraciones...");
+            return;
+        }
+        iterations = in.nextInt();
         
-        System.out.println("Minimum cut is: " + uGraph.minimumCut(iterations));
+        System.out.println("Minimum cut is: " + cGraph.minimumCut(iterations));
     }
     
 }
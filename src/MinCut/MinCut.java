@@ -7,9 +7,7 @@ package MinCut;
 import UndirectedGraph.*;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.List;
+import java.util.Arrays;
 /**
  *
  * @author paula
@@ -27,37 +25,76 @@ public class MinCut {
         file = new File(fileName);
     }
     
+    /**
+     * Lee el archivo del grafo en una sola pasada (ver GraphReader) y agrega
+     * cada arco al grafo a medida que se lee, sin cargar el archivo completo
+     * ni armar una matriz de adyacencia.
+     * @return el grafo leído.
+     */
     public Graph<Integer> createGraph(){
-        List<String> line = null;
-        int n;
-        boolean [][] m;
-        String [] aux;
+        MinCutMetrics.Probe probe = MinCutMetrics.getInstance().probe();
+        probe.start();
         try{
-            line = Files.readAllLines(Paths.get("graph.txt"));
+            new GraphReader(file).read((u, v) -> uGraph.addArc(u, v, true));
+            probe.graphLoaded();
         }
         catch(IOException e){
             System.out.println("Un error ha ocurrido: " + e.getLocalizedMessage());
         }
     
-        n = line.size();
-        m = new boolean[n][n];
-        
-        for (int i = 0; i < n; i++) {
-            aux = line.get(i).split(" ");
-            for (int j = 0; j < aux.length; j++) {
-            m[i][Integer.parseInt(aux[j])-1] = true;
-            }
+        return uGraph;
+    }
+    
+    /**
+     * Lee el archivo del grafo y lo retorna en forma compacta (CSR), sin pasar
+     * por los objetos Node y Arc. La línea i del archivo contiene los vecinos
+     * del vértice i; como en createGraph(), cada arco se toma de la línea de 
+     * su vértice menor. Si el archivo está en el formato de CompactGraphFile,
+     * se mapea en memoria en lugar de leerse.
+     * @return el grafo compacto leído, o null si el archivo no pudo leerse.
+     */
+    public CompactGraph createCompactGraph(){
+        try{
+            return readCompactGraph(file);
         }
-        for (int i = 0; i < m.length; i++) {
-            for (int j = i+1; j < m[0].length; j++) {
-                if (m[i][j]==true) {
-                    uGraph.addArc(i+1, j+1, true);
-                }
-            }
+        catch(IOException e){
+            System.out.println("Un error ha ocurrido: " + e.getLocalizedMessage());
+            return null;
         }
-    
-        return uGraph;
     }
     
+    // lee el grafo compacto de file, en cualquiera de los formatos...
+    static CompactGraph readCompactGraph(File file) throws IOException {
+        MinCutMetrics.Probe probe = MinCutMetrics.getInstance().probe();
+        probe.start();
+        CompactGraph g;
+        if (CompactGraphFile.isCompactGraphFile(file)) {
+            g = CompactGraphFile.map(file);
+        }
+        else {
+            EdgeBuffer edges = new EdgeBuffer();
+            int n = new GraphReader(file).read(edges);
+            g = new CompactGraph(n, edges.m, edges.begins, edges.ends);
+        }
+        probe.graphLoaded();
+        return g;
+    }
     
+    // acumula los arcos leídos en arreglos que crecen a demanda...
+    private static class EdgeBuffer implements GraphReader.EdgeSink {
+        private int m;
+        private int [] begins = new int[16];
+        private int [] ends = new int[16];
+        
+        @Override
+        public void edge(int u, int v){
+            if (m == begins.length) {
+                begins = Arrays.copyOf(begins, 2 * m);
+                ends = Arrays.copyOf(ends, 2 * m);
+            }
+            begins[m] = u - 1;
+            ends[m] = v - 1;
+            m++;
+        }
+    }
 }
@@ -0,0 +1,346 @@
+package MinCut;
+
+import UndirectedGraph.CompactGraph;
+import UndirectedGraph.CutResult;
+import UndirectedGraph.TrialRunner;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reparte las repeticiones de una ejecución de corte mínimo entre varios
+ * procesos trabajadores (ver ShardWorker), que se conectan por sockets. Las
+ * repeticiones 0..iterations-1 se dividen en rangos que empiezan en múltiplos
+ * de TrialRunner.BLOCK; cada trabajador toma un rango pendiente, lo ejecuta y
+ * devuelve el mejor corte del rango, con su lado y sus arcos. Como cada
+ * repetición usa el mismo generador en cualquier proceso, el valor del corte
+ * final es el mismo que el de CompactGraph.minimumCutResult(int, int, long)
+ * con la misma semilla. También el corte es el mismo (el mejor de los rangos,
+ * y entre cortes del mismo valor el del primer rango), salvo cuando un rango
+ * encuentra un corte de valor 0 o 1: como no puede mejorarse, la ejecución
+ * termina sin esperar a los demás rangos, y el corte retornado es el de ese
+ * rango.
+ *
+ * Si un trabajador muere (se cierra su conexión) o deja de dar señales de
+ * vida (ver ShardWorker.HEARTBEAT) durante TIMEOUT_MILLIS, el rango que tenía
+ * vuelve a la cola y lo toma otro. Si no queda ningún trabajador conectado, y
+ * los procesos lanzados terminaron o no se conectaron en CONNECT_MILLIS, el
+ * coordinador ejecuta él mismo los rangos pendientes. Los trabajadores 
+ * locales se lanzan como procesos de la misma JVM y classpath; con un puerto
+ * fijo, además se aceptan trabajadores de otras máquinas que vean el mismo
+ * archivo del grafo. Como cualquiera puede conectarse, el coordinador no
+ * confía en los cortes que recibe: cuenta el valor de cada lado en el grafo
+ * (ver CompactGraph.countCut()), y si no coincide con el informado, o el lado
+ * no es un corte del grafo, descarta la respuesta y el rango vuelve a la
+ * cola.
+ *
+ * Uso desde la línea de comandos:
+ *
+ *   ShardCoordinator [--workers k] [--port p] [--seed s] grafo iteraciones
+ *
+ * @author paula
+ */
+public class ShardCoordinator {
+
+    /** 
+     * El tiempo sin noticias de un trabajador tras el cual su rango se 
+     * reasigna, en milisegundos.
+     */
+    public static final int TIMEOUT_MILLIS = 10 * ShardWorker.HEARTBEAT_MILLIS;
+
+    /** 
+     * El tiempo sin trabajadores conectados tras el cual el coordinador 
+     * ejecuta él mismo los rangos, en milisegundos.
+     */
+    public static final long CONNECT_MILLIS = 30000;
+
+    private final File graph;
+    private final int workers;
+
+    // el grafo, con el que se verifican los cortes recibidos y se ejecutan
+    // los rangos locales...
+    private CompactGraph compact;
+    private final int port;
+    private final long seed;
+
+    // los rangos que todavía no tomó ningún trabajador...
+    private final LinkedBlockingDeque<Integer> pending = new LinkedBlockingDeque<>();
+
+    // la cantidad de trabajadores conectados...
+    private final AtomicInteger connected = new AtomicInteger();
+
+    // el mejor corte de cada rango, los rangos sin resultado, y si algún
+    // rango encontró un corte que no puede mejorarse...
+    private CutResult [] results;
+    private int remaining;
+    private boolean optimal;
+    private volatile boolean finished;
+
+    /**
+     * Crea un coordinador para el grafo de <b>graph</b>, que lanza
+     * <b>workers</b> trabajadores locales. Si <b>port</b> es 0 sólo se
+     * aceptan conexiones locales, en un puerto libre; si no, se aceptan
+     * conexiones de cualquier máquina en ese puerto.
+     * @param graph el archivo del grafo.
+     * @param workers la cantidad de trabajadores locales.
+     * @param port el puerto en el que se esperan los trabajadores, o 0.
+     * @param seed la semilla general.
+     */
+    public ShardCoordinator(File graph, int workers, int port, long seed){
+        this.graph = graph.getAbsoluteFile();
+        this.workers = workers;
+        this.port = port;
+        this.seed = seed;
+    }
+
+    /**
+     * Ejecuta <b>iterations</b> repeticiones repartidas entre los trabajadores
+     * y retorna el mejor corte.
+     * @param iterations la cantidad de repeticiones.
+     * @return el menor corte encontrado.
+     * @throws IOException si no se pueden aceptar conexiones o leer el grafo.
+     * @throws InterruptedIOException si el hilo se interrumpe antes de que
+     * terminen todos los rangos (y sin haber encontrado un corte de valor 0 o
+     * 1), con la interrupción todavía marcada.
+     */
+    public CutResult minimumCut(int iterations) throws IOException {
+        int size = Math.max(1, iterations / (4 * Math.max(1, workers)));
+        size = (size + TrialRunner.BLOCK - 1) / TrialRunner.BLOCK * TrialRunner.BLOCK;
+        List<int []> ranges = new ArrayList<>();
+        for (int first = 0; first < iterations; first += size) {
+            pending.add(ranges.size());
+            ranges.add(new int[]{ first, (int) Math.min(iterations, (long) first + size) });
+        }
+        compact = MinCut.readCompactGraph(graph);
+        results = new CutResult[Math.max(1, ranges.size())];
+        remaining = ranges.size();
+        optimal = false;
+        finished = false;
+
+        List<Process> processes = new ArrayList<>();
+        ServerSocket server = port == 0 ? new ServerSocket(0, 50, InetAddress.getLoopbackAddress()) : new ServerSocket(port);
+        try{
+            Thread acceptor = new Thread(() -> accept(server, ranges));
+            acceptor.setDaemon(true);
+            acceptor.start();
+            for (int w = 0; w < workers; w++) { processes.add(launch(server.getLocalPort())); }
+
+            long idle = System.nanoTime();
+            while (!await()) {
+                if (connected.get() > 0) {
+                    idle = System.nanoTime();
+                    continue;
+                }
+                boolean waiting = processes.stream().anyMatch(Process::isAlive) && System.nanoTime() - idle < CONNECT_MILLIS * 1000000;
+                if (!waiting) { runLocally(ranges); }
+            }
+        }
+        finally{
+            finished = true;
+            server.close();
+            for (Process p : processes) {
+                try{
+                    if (!p.waitFor(1, TimeUnit.SECONDS)) { p.destroy(); }
+                }
+                catch(InterruptedException e){
+                    Thread.currentThread().interrupt();
+                    p.destroy();
+                }
+            }
+        }
+
+        if (ranges.isEmpty()) { return compact.minimumCutResult(0, 1, seed); }
+        synchronized (this) {
+            if (remaining > 0 && !optimal) {
+                throw new InterruptedIOException("Error: ejecución interrumpida con " + remaining + " de " + ranges.size() + " rangos sin terminar...");
+            }
+        }
+        CutResult best = null;
+        for (CutResult r : results) {
+            if (r != null && (best == null || r.getValue() < best.getValue())) { best = r; }
+        }
+        return best;
+    }
+
+    // espera un poco a que terminen los rangos; retorna true si ya no hace
+    // falta esperar (terminaron, o un rango encontró un corte óptimo)...
+    private synchronized boolean await(){
+        if (remaining > 0 && !finished) {
+            try{
+                wait(200);
+            }
+            catch(InterruptedException e){
+                Thread.currentThread().interrupt();
+                finished = true;
+            }
+        }
+        return remaining == 0 || finished;
+    }
+
+    // registra el resultado de un rango. Un corte de valor 0 o 1 no puede
+    // mejorarse (un 1 sólo aparece si el grafo es conexo), así que termina...
+    private synchronized void complete(int shard, CutResult cut){
+        if (results[shard] == null) {
+            results[shard] = cut;
+            remaining--;
+        }
+        if (cut.getValue() <= 1) {
+            optimal = true;
+            finished = true;
+        }
+        notifyAll();
+    }
+
+    // acepta trabajadores hasta que se cierre el socket...
+    private void accept(ServerSocket server, List<int []> ranges){
+        while (!server.isClosed()) {
+            try{
+                Socket socket = server.accept();
+                Thread handler = new Thread(() -> serve(socket, ranges));
+                handler.setDaemon(true);
+                handler.start();
+            }
+            catch(IOException e){
+                // el socket se cerró...
+            }
+        }
+    }
+
+    // entrega rangos a un trabajador hasta terminar; si la conexión falla, el
+    // trabajador no da señales de vida en TIMEOUT_MILLIS o responde un corte
+    // inválido, el rango en curso vuelve a la cola...
+    private void serve(Socket socket, List<int []> ranges){
+        connected.incrementAndGet();
+        try(Socket s = socket){
+            s.setSoTimeout(TIMEOUT_MILLIS);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+            while (!finished) {
+                Integer shard = pending.poll(100, TimeUnit.MILLISECONDS);
+                if (shard == null) { continue; }
+                try{
+                    out.writeInt(ShardWorker.TASK);
+                    out.writeUTF(graph.getPath());
+                    out.writeLong(seed);
+                    out.writeInt(ranges.get(shard)[0]);
+                    out.writeInt(ranges.get(shard)[1]);
+                    out.flush();
+                    int reply;
+                    while ((reply = in.readInt()) == ShardWorker.HEARTBEAT) { }
+                    complete(shard, verify(reply, ranges.get(shard), CutResult.read(in)));
+                }
+                catch(IOException e){
+                    pending.addFirst(shard);
+                    throw e;
+                }
+            }
+            out.writeInt(ShardWorker.STOP);
+            out.flush();
+        }
+        catch(IOException e){
+            // el trabajador murió, se desconectó, dejó de responder o
+            // respondió un corte inválido...
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+        finally{
+            connected.decrementAndGet();
+        }
+    }
+
+    // retorna el corte que respondió un trabajador para el rango range,
+    // recontado en el grafo. Se rechaza si la respuesta no es del rango, si
+    // el lado no es un corte del grafo (con n >= 2, ambos lados no vacíos) o
+    // si el valor informado no es el de su lado...
+    private CutResult verify(int first, int [] range, CutResult cut) throws IOException {
+        int n = compact.countNodes();
+        BitSet side = cut.getSide();
+        if (first != range[0] || cut.countNodes() != n || side.length() > n
+                || (n >= 2 && (side.isEmpty() || side.cardinality() == n))) {
+            throw new IOException("Error: el trabajador respondió un corte inválido...");
+        }
+        CutResult counted = compact.countCut(side);
+        if (counted.getValue() != cut.getValue()) {
+            throw new IOException("Error: el trabajador informó un corte de " + cut.getValue() + " que vale " + counted.getValue() + "...");
+        }
+        return counted;
+    }
+
+    // ejecuta en este proceso los rangos pendientes. Si el hilo se
+    // interrumpe, el rango en curso vuelve a la cola y se termina...
+    private void runLocally(List<int []> ranges){
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (Integer shard = pending.poll(); shard != null && !finished; shard = pending.poll()) {
+            try{
+                complete(shard, compact.minimumCutShard(ranges.get(shard)[0], ranges.get(shard)[1], threads, seed));
+            }
+            catch(CancellationException e){
+                pending.addFirst(shard);
+                finished = true;
+            }
+        }
+    }
+
+    // lanza un trabajador local que se conecta a port...
+    private Process launch(int port) throws IOException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / Math.max(1, workers));
+        return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), ShardWorker.class.getName(),
+                InetAddress.getLoopbackAddress().getHostAddress(), Integer.toString(port), Integer.toString(threads)).inheritIO().start();
+    }
+
+    /**
+     * @param args [--workers k] [--port p] [--seed s] grafo iteraciones
+     */
+    public static void main(String[] args) throws IOException {
+        int workers = Runtime.getRuntime().availableProcessors();
+        int port = 0;
+        long seed = 1;
+        String usage = "Uso: ShardCoordinator [--workers k] [--port p] [--seed s] grafo iteraciones";
+
+        // todas las opciones llevan un valor; una opción desconocida o sin
+        // valor es un error...
+        int i = 0;
+        try {
+            for (; i < args.length && args[i].startsWith("--"); i++) {
+                if (i + 1 == args.length) {
+                    System.out.println(usage);
+                    return;
+                }
+                if (args[i].equals("--workers")) { workers = Integer.parseInt(args[++i]); }
+                else if (args[i].equals("--port")) { port = Integer.parseInt(args[++i]); }
+                else if (args[i].equals("--seed")) { seed = Long.parseLong(args[++i]); }
+                else {
+                    System.out.println(usage);
+                    return;
+                }
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("Error: parámetro no numérico: " + e.getMessage());
+            return;
+        }
+        if (args.length - i != 2) {
+            System.out.println(usage);
+            return;
+        }
+
+        long start = System.nanoTime();
+        CutResult cut = new ShardCoordinator(new File(args[i]), workers, port, seed).minimumCut(Integer.parseInt(args[i + 1]));
+        System.out.println("Corte mínimo: " + cut.getValue() + " (" + cut.countCrossingEdges() + " arcos) en " + (System.nanoTime() - start) / 1000000 + " ms");
+    }
+}
@@ -0,0 +1,147 @@
+package MinCut;
+
+import UndirectedGraph.CompactGraph;
+import UndirectedGraph.CutResult;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un proceso que ejecuta rangos de repeticiones de corte mínimo por encargo de
+ * un ShardCoordinator. Se conecta al coordinador por un socket, y repite:
+ * recibe un rango, lo ejecuta con CompactGraph.minimumCutShard() y responde
+ * con el mejor corte del rango. Como el generador de cada repetición depende
+ * sólo de la semilla y del número de repetición, el resultado de un rango es
+ * el mismo en cualquier proceso o máquina.
+ *
+ * El protocolo (con DataInputStream y DataOutputStream) es:
+ *
+ * - el coordinador envía TASK, la ruta del grafo (UTF), la semilla (long),
+ *   first y last (int); o STOP para terminar.
+ * - mientras lee el grafo y ejecuta el rango, el trabajador envía HEARTBEAT
+ *   (int) cada HEARTBEAT_MILLIS milisegundos, para que el coordinador sepa
+ *   que sigue vivo.
+ * - al terminar responde con first (int) y el corte, como lo escribe
+ *   CutResult.write(): su valor y la cantidad de vértices (int), el lado (la
+ *   cantidad de longs y los longs de BitSet.toLongArray()) y los arcos que
+ *   lo cruzan (la cantidad y los int).
+ *
+ * El grafo se lee de la ruta recibida, que debe ser accesible desde el
+ * trabajador, y se conserva mientras los rangos sean del mismo grafo.
+ *
+ * Uso desde la línea de comandos:
+ *
+ *   ShardWorker host port [hilos]
+ *
+ * Por defecto se usan tantos hilos como procesadores.
+ *
+ * @author paula
+ */
+public class ShardWorker {
+
+    /** Encarga un rango de repeticiones. */
+    public static final int TASK = 1;
+
+    /** Indica al trabajador que termine. */
+    public static final int STOP = 0;
+
+    /** Lo envía el trabajador, en lugar de first, mientras ejecuta un rango. */
+    public static final int HEARTBEAT = -1;
+
+    /** El intervalo entre dos HEARTBEAT, en milisegundos. */
+    public static final int HEARTBEAT_MILLIS = 1000;
+
+    private final int threads;
+    private String path;
+    private CompactGraph graph;
+
+    /**
+     * Crea un trabajador que ejecuta cada rango con <b>threads</b> hilos.
+     * @param threads la cantidad de hilos.
+     */
+    public ShardWorker(int threads){
+        this.threads = threads;
+    }
+
+    /**
+     * Atiende al coordinador de <b>socket</b> hasta que envíe STOP o se cierre
+     * la conexión.
+     * @param socket la conexión con el coordinador.
+     * @throws IOException si falla la conexión o no se puede leer un grafo.
+     */
+    public void serve(Socket socket) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        ScheduledExecutorService beat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try{
+            while (in.readInt() == TASK) {
+                String file = in.readUTF();
+                long seed = in.readLong();
+                int first = in.readInt();
+                int last = in.readInt();
+
+                CutResult cut;
+                ScheduledFuture<?> alive = beat.scheduleAtFixedRate(() -> heartbeat(out), HEARTBEAT_MILLIS, HEARTBEAT_MILLIS, TimeUnit.MILLISECONDS);
+                try{
+                    if (!file.equals(path)) {
+                        graph = MinCut.readCompactGraph(new File(file));
+                        path = file;
+                    }
+                    cut = graph.minimumCutShard(first, last, threads, seed);
+                }
+                finally{
+                    alive.cancel(false);
+                }
+
+                synchronized (out) {
+                    out.writeInt(first);
+                    cut.write(out);
+                    out.flush();
+                }
+            }
+        }
+        finally{
+            beat.shutdownNow();
+        }
+    }
+
+    // avisa al coordinador que el trabajador sigue vivo; si la conexión se
+    // cerró, el error aparece al enviar el resultado...
+    private static void heartbeat(DataOutputStream out){
+        synchronized (out) {
+            try{
+                out.writeInt(HEARTBEAT);
+                out.flush();
+            }
+            catch(IOException e){
+                // se informa al responder...
+            }
+        }
+    }
+
+    /**
+     * @param args host port [hilos]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2 && args.length != 3) {
+            System.out.println("Uso: ShardWorker host port [hilos]");
+            return;
+        }
+        int threads = args.length == 3 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        try(Socket socket = new Socket(args[0], Integer.parseInt(args[1]))){
+            new ShardWorker(threads).serve(socket);
+        }
+    }
+}
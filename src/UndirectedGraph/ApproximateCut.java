@@ -0,0 +1,120 @@
+package UndirectedGraph;
+
+/**
+ * Usada para representar el resultado de un corte mínimo aproximado (ver
+ * SkeletonSampling): un corte del grafo, cuyo valor es exacto y por lo tanto
+ * una cota superior del corte mínimo, y una cota inferior del corte mínimo
+ * que vale con la probabilidad indicada por getConfidence(). Además guarda la
+ * estimación del corte mínimo a partir de la muestra y la probabilidad con la
+ * que se muestreó cada arco (1 si el resultado es exacto).
+ *
+ * @author paula
+ */
+public class ApproximateCut
+{
+    // el corte encontrado, con su valor en el grafo original...
+    private final CutResult cut;
+
+    // la estimación del corte mínimo, y su cota inferior...
+    private final double estimate;
+    private final double lowerBound;
+
+    // la probabilidad de que la cota inferior valga...
+    private final double confidence;
+
+    // la probabilidad con la que se muestreó cada arco...
+    private final double sampleRate;
+
+    /**
+     * Crea un resultado aproximado.
+     * @param cut el corte encontrado, con su valor en el grafo original.
+     * @param estimate la estimación del corte mínimo.
+     * @param lowerBound la cota inferior del corte mínimo.
+     * @param confidence la probabilidad de que la cota inferior valga.
+     * @param sampleRate la probabilidad con la que se muestreó cada arco.
+     * @throws NullPointerException si cut es null.
+     */
+    public ApproximateCut(CutResult cut, double estimate, double lowerBound, double confidence, double sampleRate)
+    {
+        if(cut == null) { throw new NullPointerException("Error: corte no definido..."); }
+        this.cut = cut;
+        this.estimate = estimate;
+        this.lowerBound = lowerBound;
+        this.confidence = confidence;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Retorna el corte encontrado, cuyo valor es la cantidad de arcos del
+     * grafo original que lo cruzan.
+     * @return el corte encontrado.
+     */
+    public CutResult getCut()
+    {
+        return cut;
+    }
+
+    /**
+     * Retorna el valor del corte encontrado: una cota superior (segura) del
+     * corte mínimo.
+     * @return el valor del corte encontrado.
+     */
+    public int getValue()
+    {
+        return cut.getValue();
+    }
+
+    /**
+     * Retorna la estimación del corte mínimo: el corte mínimo de la muestra
+     * dividido la probabilidad de muestreo.
+     * @return la estimación del corte mínimo.
+     */
+    public double getEstimate()
+    {
+        return estimate;
+    }
+
+    /**
+     * Retorna una cota inferior del corte mínimo, que vale con probabilidad
+     * getConfidence().
+     * @return la cota inferior.
+     */
+    public double getLowerBound()
+    {
+        return lowerBound;
+    }
+
+    /**
+     * Retorna la probabilidad de que getLowerBound() sea una cota inferior del
+     * corte mínimo (1 si el resultado es exacto).
+     * @return la confianza del resultado.
+     */
+    public double getConfidence()
+    {
+        return confidence;
+    }
+
+    /**
+     * Retorna la probabilidad con la que se muestreó cada arco.
+     * @return la tasa de muestreo.
+     */
+    public double getSampleRate()
+    {
+        return sampleRate;
+    }
+
+    /**
+     * Retorna true si el resultado es exacto: si no hizo falta muestrear.
+     * @return true si el corte encontrado es el corte mínimo.
+     */
+    public boolean isExact()
+    {
+        return sampleRate >= 1;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Corte " + cut.getValue() + " (mínimo entre " + Math.ceil(lowerBound) + " y " + cut.getValue() + ", con probabilidad " + confidence + ")";
+    }
+}
@@ -31,6 +31,10 @@ public abstract class Arc <T> implements Comparable< Arc<T> >
     // el peso, si es necesario.
     protected int weight;  
     
+    // la posición del arco en el ArcList del grafo que lo contiene (-1 si no 
+    // está en ninguno), para poder quitarlo en tiempo constante.
+    int position = -1;
+    
     /**
      * Crea un arco uniendo los vértices in y en, con peso 0.
      * @param in el primero de los vértices a unir.
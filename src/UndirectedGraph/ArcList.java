@@ -0,0 +1,150 @@
+package UndirectedGraph;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Usada para representar la lista general de arcos de un grafo. Los arcos se
+ * guardan en un arreglo que crece a demanda, y cada arco recuerda su posición
+ * en el arreglo (ver Arc.position). Así, acceder al arco de una posición dada
+ * (por ejemplo, para elegir un arco al azar) y quitar un arco cuestan O(1):
+ * para quitar un arco se lo reemplaza por el último, que cambia de posición.
+ * Por lo tanto el orden de los arcos no se conserva al quitar.
+ *
+ * Un arco puede estar a lo sumo en un ArcList a la vez, y las búsquedas y las
+ * eliminaciones son por identidad (no por equals()).
+ *
+ * @author paula
+ */
+public class ArcList<T> implements Iterable< Arc<T> >
+{
+    // los arcos, en las posiciones 0..size-1...
+    private Arc<T>[] arcs;
+
+    // la cantidad de arcos...
+    private int size;
+
+    /**
+     * Crea una lista de arcos vacía.
+     */
+    public ArcList()
+    {
+        this(null);
+    }
+
+    /**
+     * Crea una lista con los arcos contenidos en <b>a</b>, en el mismo orden.
+     * Si la referencia <b>a</b> es null, la lista se crea vacía.
+     * @param a los arcos a agregar.
+     */
+    @SuppressWarnings("unchecked")
+    public ArcList(Collection< Arc<T> > a)
+    {
+        arcs = (Arc<T>[]) new Arc<?>[16];
+        if(a != null)
+        {
+            for(Arc<T> x : a) { this.add(x); }
+        }
+    }
+
+    /**
+     * Agrega el arco <b>a</b> al final de la lista.
+     * @param a el arco a agregar.
+     * @return true si el arco fue agregado.
+     * @throws NullPointerException si a es null.
+     */
+    public boolean add(Arc<T> a)
+    {
+        if(a == null) { throw new NullPointerException("Error: arco no definido..."); }
+
+        if(size == arcs.length) { arcs = Arrays.copyOf(arcs, 2 * size); }
+        a.position = size;
+        arcs[size++] = a;
+        return true;
+    }
+
+    /**
+     * Quita el arco <b>a</b> (el mismo objeto, no uno igual) de la lista, en
+     * tiempo constante. El último arco de la lista pasa a ocupar su lugar.
+     * @param a el arco a quitar.
+     * @return true si el arco estaba en la lista.
+     */
+    public boolean remove(Arc<T> a)
+    {
+        if(! this.contains(a)) { return false; }
+
+        int p = a.position;
+        Arc<T> last = arcs[--size];
+        arcs[p] = last;
+        last.position = p;
+        arcs[size] = null;
+        a.position = -1;
+        return true;
+    }
+
+    /**
+     * Retorna true si el arco <b>a</b> (el mismo objeto) está en la lista.
+     * @param a el arco a buscar.
+     * @return true si el arco está en la lista.
+     */
+    public boolean contains(Arc<T> a)
+    {
+        if(a == null) { return false; }
+        int p = a.position;
+        return p >= 0 && p < size && arcs[p] == a;
+    }
+
+    /**
+     * Retorna el arco en la posición i.
+     * @param i la posición del arco.
+     * @return el arco en la posición i.
+     * @throws IndexOutOfBoundsException si i no es una posición válida.
+     */
+    public Arc<T> get(int i)
+    {
+        if(i < 0 || i >= size) { throw new IndexOutOfBoundsException("Error: posición inválida: " + i); }
+        return arcs[i];
+    }
+
+    /**
+     * Retorna la cantidad de arcos de la lista.
+     * @return la cantidad de arcos.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Retorna true si la lista no tiene arcos.
+     * @return true si la lista está vacía.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public Iterator< Arc<T> > iterator()
+    {
+        return new Iterator< Arc<T> >()
+        {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext()
+            {
+                return i < size;
+            }
+
+            @Override
+            public Arc<T> next()
+            {
+                if(i >= size) { throw new NoSuchElementException(); }
+                return arcs[i++];
+            }
+        };
+    }
+}
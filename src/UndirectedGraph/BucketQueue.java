@@ -0,0 +1,141 @@
+package UndirectedGraph;
+
+/**
+ * Usada para representar una cola de prioridad de los enteros 0..n-1 con
+ * claves enteras en 0..maxKey que sólo aumentan, de la que se extrae siempre
+ * un elemento de clave máxima. Cada clave tiene un "balde" (una lista doblemente
+ * enlazada de los elementos con esa clave), y se recuerda la mayor clave que
+ * puede tener elementos: aumentar una clave cuesta O(1), y extraer el máximo
+ * cuesta O(1) amortizado, porque el balde máximo sólo baja de a uno después
+ * de haber subido. Es la cola de la búsqueda de máxima adyacencia cuando los
+ * arcos no tienen peso (cada arco aumenta en 1 la clave de su extremo).
+ *
+ * @author paula
+ */
+public class BucketQueue
+{
+    // el primer elemento de cada balde (-1 si está vacío)...
+    private final int[] head;
+
+    // los vecinos de cada elemento en su balde (-1 si no hay)...
+    private final int[] next, prev;
+
+    // la clave de cada elemento, o -1 si no está en la cola...
+    private final int[] key;
+
+    // la mayor clave cuyo balde puede no estar vacío...
+    private int top;
+
+    // la cantidad de elementos en la cola...
+    private int size;
+
+    /**
+     * Crea una cola vacía para los elementos 0..n-1, con claves en
+     * 0..maxKey.
+     * @param n la cantidad de elementos.
+     * @param maxKey la mayor clave posible.
+     */
+    public BucketQueue(int n, int maxKey)
+    {
+        head = new int[maxKey + 1];
+        next = new int[n];
+        prev = new int[n];
+        key = new int[n];
+        clear();
+    }
+
+    /**
+     * Vacía la cola, sin crear objetos nuevos.
+     */
+    public final void clear()
+    {
+        for(int k = 0; k < head.length; k++) { head[k] = -1; }
+        for(int v = 0; v < key.length; v++) { key[v] = -1; }
+        top = 0;
+        size = 0;
+    }
+
+    /**
+     * Agrega el elemento <b>v</b> con clave <b>k</b>.
+     * @param v el elemento (que no debe estar en la cola).
+     * @param k su clave.
+     */
+    public void insert(int v, int k)
+    {
+        key[v] = k;
+        prev[v] = -1;
+        next[v] = head[k];
+        if(head[k] != -1) { prev[head[k]] = v; }
+        head[k] = v;
+        if(k > top) { top = k; }
+        size++;
+    }
+
+    /**
+     * Aumenta en <b>w</b> la clave del elemento <b>v</b>, que debe estar en
+     * la cola.
+     * @param v el elemento.
+     * @param w el aumento (no negativo).
+     * @return la nueva clave de v.
+     */
+    public int increase(int v, int w)
+    {
+        int k = key[v] + w;
+        unlink(v);
+        size--;
+        insert(v, k);
+        return k;
+    }
+
+    /**
+     * Quita y retorna un elemento de clave máxima, o -1 si la cola está vacía.
+     * @return el elemento quitado, o -1.
+     */
+    public int pollMax()
+    {
+        if(size == 0) { return -1; }
+
+        while(head[top] == -1) { top--; }
+        int v = head[top];
+        unlink(v);
+        key[v] = -1;
+        size--;
+        return v;
+    }
+
+    /**
+     * Retorna true si <b>v</b> está en la cola.
+     * @param v el elemento.
+     * @return true si v está en la cola.
+     */
+    public boolean contains(int v)
+    {
+        return key[v] >= 0;
+    }
+
+    /**
+     * Retorna la clave del elemento <b>v</b>, o -1 si no está en la cola.
+     * @param v el elemento.
+     * @return la clave de v.
+     */
+    public int key(int v)
+    {
+        return key[v];
+    }
+
+    /**
+     * Retorna true si la cola está vacía.
+     * @return true si no hay elementos.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    // saca a v de su balde...
+    private void unlink(int v)
+    {
+        if(prev[v] != -1) { next[prev[v]] = next[v]; } else { head[key[v]] = next[v]; }
+        if(next[v] != -1) { prev[next[v]] = prev[v]; }
+    }
+}
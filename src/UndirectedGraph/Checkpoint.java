@@ -0,0 +1,278 @@
+package UndirectedGraph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Usada para guardar periódicamente el avance de una ejecución larga de
+ * TrialRunner.runWithWitness() en un archivo, y para retomarla desde allí si
+ * se interrumpe (ver TrialRunner.runWithWitness(int, CutResult, int,
+ * Supplier, Checkpoint)). El archivo tiene:
+ *
+ * - la cabecera MAGIC, y la semilla general, la cantidad de repeticiones, la
+ *   cantidad de vértices y de arcos del grafo y la huella de sus arcos (ver
+ *   CompactGraph.fingerprint()), que identifican la ejecución: un archivo de
+ *   otra ejecución, o de otro grafo del mismo tamaño, se rechaza.
+ * - la marca: todas las repeticiones anteriores a ella terminaron. Es un
+ *   múltiplo de TrialRunner.BLOCK (o la cantidad de repeticiones), así que
+ *   fija también la posición en la secuencia de generadores: el bloque b usa
+ *   el b-ésimo split() del generador de la semilla, y al retomar se descartan
+ *   los marca / BLOCK primeros.
+ * - el mejor corte encontrado, con el número de la repetición que lo encontró
+ *   (-1 si es el corte inicial).
+ *
+ * Los hilos de las repeticiones sólo publican el avance (en una
+ * AtomicReference, sin locks) al terminar cada bloque; un hilo aparte lo
+ * escribe cada cierto intervalo, en un archivo temporal que después reemplaza
+ * al anterior con un movimiento atómico, de modo que el archivo nunca queda a
+ * medio escribir. Al terminar la ejecución se escribe el estado final. Como
+ * los generadores dependen sólo de la semilla y del número de repetición,
+ * retomar da el mismo resultado que una ejecución sin interrupciones.
+ *
+ * @author paula
+ */
+public class Checkpoint
+{
+    /** La cabecera del archivo ("MCK2"). */
+    public static final int MAGIC = 0x4D434B32;
+
+    /** El intervalo entre escrituras por defecto, en milisegundos. */
+    public static final long DEFAULT_INTERVAL = 10000;
+
+    // el archivo, y el temporal en el que se escribe antes de moverlo...
+    private final File file;
+    private final File temporary;
+
+    // el intervalo entre escrituras, en milisegundos...
+    private final long interval;
+
+    // el último estado publicado, y el último escrito (sólo lo usa el hilo
+    // que escribe)...
+    private final AtomicReference<State> latest = new AtomicReference<>();
+    private State written;
+
+    // el estado con el que empezó la ejecución en curso, del que los demás
+    // toman la identificación...
+    private State initial;
+
+    // el hilo que escribe, mientras hay una ejecución en curso...
+    private ScheduledExecutorService writer;
+
+    /**
+     * Crea un Checkpoint sobre el archivo <b>file</b>, que se escribe cada
+     * DEFAULT_INTERVAL milisegundos.
+     * @param file el archivo.
+     */
+    public Checkpoint(File file)
+    {
+        this(file, DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Crea un Checkpoint sobre el archivo <b>file</b>, que se escribe cada
+     * <b>interval</b> milisegundos (si hubo avance).
+     * @param file el archivo.
+     * @param interval el intervalo entre escrituras, en milisegundos.
+     * @throws IllegalArgumentException si interval no es positivo.
+     */
+    public Checkpoint(File file, long interval)
+    {
+        if(file == null) { throw new NullPointerException("Error: archivo no definido..."); }
+        if(interval <= 0) { throw new IllegalArgumentException("Error: el intervalo debe ser positivo: " + interval); }
+        this.file = file;
+        this.temporary = new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".tmp");
+        this.interval = interval;
+    }
+
+    /**
+     * Retorna el archivo del checkpoint.
+     * @return el archivo.
+     */
+    public File getFile()
+    {
+        return file;
+    }
+
+    /**
+     * Lee el estado guardado de la ejecución con semilla <b>seed</b> y
+     * <b>iterations</b> repeticiones sobre el grafo <b>graph</b>, o retorna
+     * null si el archivo no existe (la ejecución empieza de cero).
+     * @param seed la semilla general.
+     * @param iterations la cantidad de repeticiones.
+     * @param graph el grafo de la ejecución.
+     * @return el estado guardado, o null.
+     * @throws UncheckedIOException si el archivo no se puede leer.
+     * @throws IllegalStateException si el archivo es de otra ejecución o de
+     * otro grafo.
+     */
+    State load(long seed, int iterations, CompactGraph graph)
+    {
+        if(! file.exists()) { return null; }
+
+        State state;
+        try(DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+        {
+            if(in.readInt() != MAGIC) { throw new IOException("Error: " + file + " no es un checkpoint..."); }
+            long s = in.readLong();
+            int it = in.readInt();
+            int nodes = in.readInt();
+            int edges = in.readInt();
+            long fingerprint = in.readLong();
+            int watermark = in.readInt();
+            int trial = in.readInt();
+            state = new State(s, it, nodes, edges, fingerprint, watermark, trial, CutResult.read(in));
+        }
+        catch(IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+
+        if(state.seed != seed || state.iterations != iterations)
+        {
+            throw new IllegalStateException("Error: " + file + " es el checkpoint de otra ejecución...");
+        }
+        if(state.nodes != graph.countNodes() || state.edges != graph.countEdges() || state.fingerprint != graph.fingerprint() || state.cut.countNodes() != state.nodes)
+        {
+            throw new IllegalStateException("Error: " + file + " es el checkpoint de otro grafo...");
+        }
+        return state;
+    }
+
+    /**
+     * Empieza a escribir el avance de una ejecución en segundo plano, a
+     * partir del estado <b>initial</b>.
+     * @param initial el estado inicial.
+     */
+    void start(State initial)
+    {
+        this.initial = initial;
+        latest.set(initial);
+        written = null;
+        writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(() -> {
+            try
+            {
+                flush();
+            }
+            catch(IOException e)
+            {
+                // se vuelve a intentar en la siguiente escritura, y la
+                // final informa el error...
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Publica el avance de la ejecución, sin bloquear: lo escribirá el hilo
+     * del checkpoint. Como los hilos publican en cualquier orden, se conserva
+     * el estado de mayor marca.
+     * @param watermark la marca.
+     * @param trial la repetición que encontró el mejor corte.
+     * @param cut el mejor corte.
+     */
+    void update(int watermark, int trial, CutResult cut)
+    {
+        State state = new State(initial.seed, initial.iterations, initial.nodes, initial.edges, initial.fingerprint, watermark, trial, cut);
+        latest.accumulateAndGet(state, (a, b) -> b.watermark >= a.watermark ? b : a);
+    }
+
+    /**
+     * Detiene el hilo que escribe y escribe el último estado publicado.
+     * @throws UncheckedIOException si el archivo no se puede escribir.
+     */
+    void finish()
+    {
+        writer.shutdownNow();
+        try
+        {
+            writer.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        catch(InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        try
+        {
+            flush();
+        }
+        catch(IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // escribe el último estado publicado, si cambió, en el temporal, y lo
+    // mueve sobre el archivo...
+    private synchronized void flush() throws IOException
+    {
+        State state = latest.get();
+        if(state == written) { return; }
+
+        try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary))))
+        {
+            out.writeInt(MAGIC);
+            out.writeLong(state.seed);
+            out.writeInt(state.iterations);
+            out.writeInt(state.nodes);
+            out.writeInt(state.edges);
+            out.writeLong(state.fingerprint);
+            out.writeInt(state.watermark);
+            out.writeInt(state.trial);
+            state.cut.write(out);
+        }
+        try
+        {
+            Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch(AtomicMoveNotSupportedException e)
+        {
+            Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        written = state;
+    }
+
+    // el avance de una ejecución: su semilla y cantidad de repeticiones, el
+    // tamaño y la huella del grafo, la marca, y el mejor corte con el número
+    // de la repetición que lo encontró...
+    static final class State
+    {
+        final long seed;
+        final int iterations;
+        final int nodes;
+        final int edges;
+        final long fingerprint;
+        final int watermark;
+        final int trial;
+        final CutResult cut;
+
+        State(long seed, int iterations, int nodes, int edges, long fingerprint, int watermark, int trial, CutResult cut)
+        {
+            this.seed = seed;
+            this.iterations = iterations;
+            this.nodes = nodes;
+            this.edges = edges;
+            this.fingerprint = fingerprint;
+            this.watermark = watermark;
+            this.trial = trial;
+            this.cut = cut;
+        }
+    }
+}
@@ -0,0 +1,790 @@
+package UndirectedGraph;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Usada para representar un grafo no dirigido (admitiendo arcos paralelos) en
+ * forma compacta, con arreglos de enteros primitivos en formato CSR (guardados
+ * en IntBuffers, que envuelven arreglos o son vistas de un archivo mapeado en
+ * memoria, ver MinCut.CompactGraphFile). Los vértices se identifican con los
+ * índices 0..n-1, y los vecinos del vértice v son targets[offsets[v]] .. 
+ * targets[offsets[v+1] - 1]. Además se guardan los extremos de cada arco 
+ * (begins y ends, una entrada por arco no dirigido) para poder seleccionar
+ * arcos al azar en tiempo constante. Si el grafo es ponderado, el peso de cada
+ * arco se guarda en weights; si no, cada arco pesa 1.
+ *
+ * Un CompactGraph es inmutable: los algoritmos que lo usan trabajan sobre
+ * estructuras auxiliares propias, de modo que nunca es necesario clonarlo.
+ *
+ * @author paula
+ */
+public class CompactGraph
+{
+    // la cantidad de vértices...
+    private final int n;
+
+    // los vecinos de v están en targets[offsets[v]] .. targets[offsets[v+1]-1]...
+    private final IntBuffer offsets;
+    private final IntBuffer targets;
+
+    // los extremos de cada arco no dirigido...
+    private final IntBuffer begins;
+    private final IntBuffer ends;
+
+    // el peso de cada arco, o null si el grafo no es ponderado...
+    private int[] weights;
+
+    // el valor original de cada vértice (por ejemplo, su número en el archivo),
+    // o null si los valores son 1..n...
+    private final int[] labels;
+
+    /**
+     * Crea un grafo compacto con <b>n</b> vértices y los <b>m</b> arcos dados
+     * por las primeras m posiciones de <b>b</b> y <b>e</b> (el arco i une los
+     * vértices b[i] y e[i]). Los valores de los vértices serán 1..n.
+     * @param n la cantidad de vértices.
+     * @param m la cantidad de arcos.
+     * @param b el primer extremo de cada arco.
+     * @param e el segundo extremo de cada arco.
+     * @throws IllegalArgumentException si algún extremo no es un vértice válido.
+     */
+    public CompactGraph(int n, int m, int[] b, int[] e)
+    {
+        this(n, m, b, e, null, null);
+    }
+
+    /**
+     * Crea un grafo compacto ponderado con <b>n</b> vértices y los <b>m</b>
+     * arcos dados por las primeras m posiciones de <b>b</b> y <b>e</b>, donde
+     * el arco i une los vértices b[i] y e[i] con peso w[i]. Si <b>w</b> es 
+     * null, el grafo no es ponderado. Los valores de los vértices serán 1..n.
+     * @param n la cantidad de vértices.
+     * @param m la cantidad de arcos.
+     * @param b el primer extremo de cada arco.
+     * @param e el segundo extremo de cada arco.
+     * @param w el peso de cada arco.
+     * @throws IllegalArgumentException si algún extremo no es un vértice válido.
+     */
+    public CompactGraph(int n, int m, int[] b, int[] e, int[] w)
+    {
+        this(n, m, b, e, w, null);
+    }
+
+    /**
+     * Crea un grafo compacto a partir de un Graph. El vértice i del grafo 
+     * compacto corresponde al i-ésimo vértice de la lista de vértices de 
+     * <b>g</b>; si los valores de los vértices son enteros se conservan (ver
+     * label()), y si no se numeran 1..n en ese mismo orden. Los pesos de los
+     * arcos se conservan, salvo que todos sean 0: en ese caso el grafo se 
+     * toma como no ponderado (ver la clase Arc).
+     * @param g el grafo a compactar.
+     */
+    public CompactGraph(Graph<?> g)
+    {
+        this(g.countNodes(), g.countEdges(), new int[g.countEdges()], new int[g.countEdges()], new int[g.countEdges()], new int[g.countNodes()]);
+
+        HashMap<Object, Integer> index = new HashMap<>();
+        int i = 0;
+        for(Node<?> v : g.vertices)
+        {
+            Object x = v.getValue();
+            labels[i] = x instanceof Integer ? (Integer) x : i + 1;
+            index.put(x, i++);
+        }
+
+        int j = 0;
+        boolean weighted = false;
+        for(Arc<?> a : g.edges)
+        {
+            begins.put(j, index.get(a.getInit().getValue()));
+            ends.put(j, index.get(a.getEnd().getValue()));
+            weights[j] = a.getWeight();
+            weighted |= weights[j] != 0;
+            j++;
+        }
+        if(! weighted) { weights = null; }
+
+        buildAdjacency();
+    }
+
+    private CompactGraph(int n, int m, int[] b, int[] e, int[] w, int[] l)
+    {
+        if(n < 0 || m < 0 || m > b.length || m > e.length || (w != null && m > w.length)) { throw new IllegalArgumentException("Error: tamaño de grafo inválido..."); }
+
+        this.n = n;
+        this.begins = IntBuffer.wrap(b.length == m ? b : Arrays.copyOf(b, m));
+        this.ends = IntBuffer.wrap(e.length == m ? e : Arrays.copyOf(e, m));
+        this.weights = w == null || w.length == m ? w : Arrays.copyOf(w, m);
+        this.offsets = IntBuffer.wrap(new int[n + 1]);
+        this.targets = IntBuffer.wrap(new int[2 * m]);
+        this.labels = l;
+
+        if(l == null) { buildAdjacency(); }
+    }
+
+    /**
+     * Crea un grafo compacto no ponderado de <b>n</b> vértices directamente
+     * sobre los buffers dados, sin copiarlos: offsets (n + 1 posiciones) y 
+     * targets (2m posiciones) en formato CSR, y los extremos de cada arco en
+     * begins y ends (m posiciones). Los buffers pueden ser vistas de un 
+     * archivo mapeado en memoria (ver MinCut.CompactGraphFile), de modo que el
+     * grafo se crea en tiempo constante. Sólo se verifican los tamaños: el
+     * contenido debe ser consistente, y los buffers no deben modificarse 
+     * mientras se use el grafo. Los valores de los vértices serán 1..n.
+     * @param n la cantidad de vértices.
+     * @param offsets el comienzo de los vecinos de cada vértice.
+     * @param targets los vecinos de todos los vértices.
+     * @param begins el primer extremo de cada arco.
+     * @param ends el segundo extremo de cada arco.
+     * @throws IllegalArgumentException si los tamaños no son consistentes.
+     */
+    public CompactGraph(int n, IntBuffer offsets, IntBuffer targets, IntBuffer begins, IntBuffer ends)
+    {
+        int m = begins.remaining();
+        if(n < 0 || offsets.remaining() != n + 1 || ends.remaining() != m || targets.remaining() != 2L * m)
+        {
+            throw new IllegalArgumentException("Error: tamaño de grafo inválido...");
+        }
+
+        this.n = n;
+        this.offsets = offsets.slice();
+        this.targets = targets.slice();
+        this.begins = begins.slice();
+        this.ends = ends.slice();
+        this.weights = null;
+        this.labels = null;
+    }
+
+    // arma offsets y targets a partir de begins y ends (counting sort), que
+    // en este caso son arreglos...
+    private void buildAdjacency()
+    {
+        int[] begins = this.begins.array(), ends = this.ends.array();
+        int[] offsets = this.offsets.array(), targets = this.targets.array();
+        int m = begins.length;
+        for(int i = 0; i < m; i++)
+        {
+            if(begins[i] < 0 || begins[i] >= n || ends[i] < 0 || ends[i] >= n)
+            {
+                throw new IllegalArgumentException("Error: el arco " + i + " no une vértices válidos...");
+            }
+            offsets[begins[i] + 1]++;
+            offsets[ends[i] + 1]++;
+        }
+        for(int v = 0; v < n; v++) { offsets[v + 1] += offsets[v]; }
+
+        int[] next = Arrays.copyOf(offsets, n);
+        for(int i = 0; i < m; i++)
+        {
+            targets[next[begins[i]]++] = ends[i];
+            targets[next[ends[i]]++] = begins[i];
+        }
+    }
+
+    /**
+     * Retorna la cantidad de vértices del grafo.
+     * @return la cantidad de vértices.
+     */
+    public int countNodes()
+    {
+        return n;
+    }
+
+    /**
+     * Retorna la cantidad de arcos (no dirigidos) del grafo.
+     * @return la cantidad de arcos.
+     */
+    public int countEdges()
+    {
+        return begins.limit();
+    }
+
+    /**
+     * Retorna el grado del vértice v (la cantidad de arcos incidentes a v).
+     * @param v el índice del vértice.
+     * @return el grado de v.
+     */
+    public int degree(int v)
+    {
+        return offsets.get(v + 1) - offsets.get(v);
+    }
+
+    /**
+     * Retorna el i-ésimo vecino del vértice v, con 0 <= i < degree(v).
+     * @param v el índice del vértice.
+     * @param i la posición del vecino en la lista de adyacencia de v.
+     * @return el índice del vecino.
+     */
+    public int neighbor(int v, int i)
+    {
+        return targets.get(offsets.get(v) + i);
+    }
+
+    /**
+     * Retorna el primer extremo del arco e.
+     * @param e el índice del arco.
+     * @return el índice del primer vértice del arco.
+     */
+    public int begin(int e)
+    {
+        return begins.get(e);
+    }
+
+    /**
+     * Retorna el segundo extremo del arco e.
+     * @param e el índice del arco.
+     * @return el índice del segundo vértice del arco.
+     */
+    public int end(int e)
+    {
+        return ends.get(e);
+    }
+
+    /**
+     * Retorna el peso del arco e (1 si el grafo no es ponderado).
+     * @param e el índice del arco.
+     * @return el peso del arco.
+     */
+    public int weight(int e)
+    {
+        return weights == null ? 1 : weights[e];
+    }
+
+    /**
+     * Retorna true si el grafo es ponderado.
+     * @return true si los arcos tienen pesos propios.
+     */
+    public boolean isWeighted()
+    {
+        return weights != null;
+    }
+
+    /**
+     * Retorna el valor original del vértice v (el valor que tenía en el Graph
+     * de origen, o v + 1 si el grafo fue creado a partir de un archivo).
+     * @param v el índice del vértice.
+     * @return el valor original del vértice.
+     */
+    public int label(int v)
+    {
+        return labels == null ? v + 1 : labels[v];
+    }
+
+    /**
+     * Calcula el corte mínimo del grafo usando el algoritmo de Karger,
+     * repitiendo el proceso de contracción aleatoria <b>iterations</b> veces.
+     * Cada repetición toma los arcos en un orden aleatorio (sin reposición) y
+     * une sus extremos en un DisjointSet hasta que quedan sólo dos supernodos,
+     * y retorna la cantidad de arcos que los une. Los resultados son los mismos
+     * que los de UndirectedGraph.minimumCut(), sin clonar ni modificar el 
+     * grafo, y sin crear objetos en cada repetición.
+     * @param iterations la cantidad de repeticiones.
+     * @return el menor corte encontrado.
+     */
+    public int minimumCut(int iterations)
+    {
+        return minimumCut(iterations, 1, new Random().nextLong());
+    }
+
+    /**
+     * Calcula el corte mínimo igual que minimumCut(int), pero repartiendo las
+     * repeticiones entre <b>parallelism</b> hilos. Cada hilo usa sus propios
+     * arreglos auxiliares, y el generador de cada repetición se deriva de 
+     * <b>seed</b>: para una misma semilla el resultado no depende de la 
+     * cantidad de hilos. Si el grafo es denso (ver DenseGraph.isDense()), las
+     * repeticiones se hacen sobre una matriz de adyacencia.
+     * @param iterations la cantidad de repeticiones.
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @return el menor corte encontrado.
+     */
+    public int minimumCut(int iterations, int parallelism, long seed)
+    {
+        int m = this.countEdges();
+        if(n <= 2 || iterations <= 0) { return m; }
+        if(components(new DisjointSet(n)) > 1) { return 0; }
+
+        TrialRunner runner = new TrialRunner(parallelism, seed);
+        return runner.run(iterations, m, trials());
+    }
+
+    /**
+     * Calcula el corte mínimo igual que minimumCut(int), pero retorna el corte
+     * completo: su valor, uno de sus lados y los arcos que lo cruzan. Cada 
+     * repetición sigue usando sólo el DisjointSet; el lado del corte se arma
+     * a partir del DisjointSet sólo cuando una repetición mejora el mejor 
+     * corte conocido, en O(n + m). Si no hay repeticiones, se retorna el corte
+     * que separa al vértice de menor grado.
+     * @param iterations la cantidad de repeticiones.
+     * @return el menor corte encontrado.
+     */
+    public CutResult minimumCutResult(int iterations)
+    {
+        return minimumCutResult(iterations, 1, new Random().nextLong());
+    }
+
+    /**
+     * Calcula el corte mínimo completo igual que minimumCutResult(int), pero
+     * repartiendo las repeticiones entre <b>parallelism</b> hilos, con 
+     * generadores derivados de <b>seed</b>. Para una misma semilla, tanto el
+     * valor como el corte retornado no dependen de la cantidad de hilos.
+     * @param iterations la cantidad de repeticiones.
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @return el menor corte encontrado.
+     */
+    public CutResult minimumCutResult(int iterations, int parallelism, long seed)
+    {
+        return minimumCutShard(0, iterations, parallelism, seed);
+    }
+
+    /**
+     * Ejecuta sólo las repeticiones <b>first</b>..<b>last</b>-1 de 
+     * minimumCutResult(int, int, long), con los mismos generadores que 
+     * tendrían allí (ver TrialRunner.runWithWitness(int, int, CutResult, int,
+     * Supplier)). Permite repartir las repeticiones de una ejecución entre 
+     * varios procesos y luego quedarse con el mejor corte: entre cortes del 
+     * mismo valor, el del rango de menor first.
+     * @param first la primera repetición, múltiplo de TrialRunner.BLOCK.
+     * @param last la repetición siguiente a la última.
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @return el menor corte encontrado en el rango.
+     */
+    public CutResult minimumCutShard(int first, int last, int parallelism, long seed)
+    {
+        CutResult initial = initialCut();
+        if(initial.getValue() == 0 || last <= first) { return initial; }
+
+        TrialRunner runner = new TrialRunner(parallelism, seed);
+        return runner.runWithWitness(first, last, initial, 1, trials());
+    }
+
+    /**
+     * Calcula el corte mínimo completo igual que minimumCutResult(int, int,
+     * long), guardando el avance en <b>checkpoint</b> mientras se ejecuta 
+     * (ver la clase Checkpoint). Si el checkpoint ya tiene el avance de una
+     * ejecución interrumpida con la misma semilla y cantidad de repeticiones,
+     * sobre este mismo grafo, se retoma desde allí, y el resultado es el mismo que sin interrupción.
+     * @param iterations la cantidad de repeticiones.
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @param checkpoint el checkpoint de la ejecución.
+     * @return el menor corte encontrado.
+     * @throws IllegalStateException si el checkpoint es de otra ejecución o
+     * de otro grafo.
+     * @throws java.io.UncheckedIOException si el checkpoint no se puede leer o
+     * escribir.
+     * @throws java.util.concurrent.CancellationException si el hilo se
+     * interrumpe antes de terminar; el avance queda guardado en el
+     * checkpoint, y la ejecución se puede retomar.
+     */
+    public CutResult minimumCutResult(int iterations, int parallelism, long seed, Checkpoint checkpoint)
+    {
+        CutResult initial = initialCut();
+        if(initial.getValue() == 0 || iterations <= 0) { return initial; }
+
+        TrialRunner runner = new TrialRunner(parallelism, seed);
+        return runner.runWithWitness(this, iterations, initial, 1, trials(), checkpoint);
+    }
+
+    // el corte con el que empiezan las repeticiones: uno de valor 0 si el 
+    // grafo tiene menos de dos vértices o no es conexo, o el que separa al 
+    // vértice de menor grado...
+    private CutResult initialCut()
+    {
+        CutResult empty = emptyCut();
+        if(empty != null) { return empty; }
+
+        int u = 0;
+        for(int v = 1; v < n; v++)
+        {
+            if(loopFreeDegree(v) < loopFreeDegree(u)) { u = v; }
+        }
+        BitSet single = new BitSet(n);
+        single.set(u);
+        return cutResult(loopFreeDegree(u), single);
+    }
+
+    /**
+     * Retorna el corte de valor <b>value</b> cuyo primer lado es <b>side</b>,
+     * buscando los arcos que lo cruzan en O(m).
+     * @param value el valor del corte.
+     * @param side los vértices de uno de los lados.
+     * @return el corte.
+     */
+    CutResult cutResult(int value, BitSet side)
+    {
+        return new CutResult(value, side, n, crossing(side));
+    }
+
+    /**
+     * Retorna el corte cuyo primer lado es <b>side</b>, con su valor contado
+     * como la cantidad de arcos que lo cruzan (cada arco cuenta 1, como en
+     * minimumCut()), en O(m). Sirve también para verificar un corte recibido
+     * de otro proceso (ver MinCut.ShardCoordinator).
+     * @param side los vértices de uno de los lados.
+     * @return el corte.
+     */
+    public CutResult countCut(BitSet side)
+    {
+        int[] crossing = crossing(side);
+        return new CutResult(crossing.length, side, n, crossing);
+    }
+
+    /**
+     * Retorna el corte mínimo (contando cada arco 1) cuando se lo conoce sin
+     * buscarlo: uno de valor 0 si el grafo tiene menos de dos vértices o no es
+     * conexo, o uno de valor 1 si tiene un puente (ver bridgeSide()). Si no,
+     * retorna null. Cuesta O(n + m).
+     * @return el corte mínimo, o null si no es trivial.
+     */
+    CutResult trivialCut()
+    {
+        CutResult empty = emptyCut();
+        if(empty != null) { return empty; }
+
+        BitSet bridge = bridgeSide();
+        return bridge == null ? null : cutResult(1, bridge);
+    }
+
+    // un corte de valor 0 si el grafo tiene menos de dos vértices (con el
+    // primer lado vacío) o no es conexo (con la componente del vértice 0), o
+    // null...
+    private CutResult emptyCut()
+    {
+        if(n < 2) { return cutResult(0, new BitSet()); }
+
+        DisjointSet components = new DisjointSet(n);
+        return components(components) > 1 ? cutResult(0, side(components)) : null;
+    }
+
+    // los índices de los arcos que cruzan el corte con el lado side, en orden
+    // creciente...
+    private int[] crossing(BitSet side)
+    {
+        int count = 0;
+        for(int e = 0; e < begins.limit(); e++)
+        {
+            if(side.get(begins.get(e)) != side.get(ends.get(e))) { count++; }
+        }
+        int[] crossing = new int[count];
+        count = 0;
+        for(int e = 0; e < begins.limit(); e++)
+        {
+            if(side.get(begins.get(e)) != side.get(ends.get(e))) { crossing[count++] = e; }
+        }
+        return crossing;
+    }
+
+    /**
+     * Retorna una huella de 64 bits de la lista de arcos (los extremos de cada
+     * arco, en orden), en O(m). La usa Checkpoint para reconocer el grafo de
+     * una ejecución: dos grafos con la misma cantidad de vértices y arcos pero
+     * distintos arcos tienen, salvo colisiones, huellas distintas.
+     * @return la huella de los arcos.
+     */
+    long fingerprint()
+    {
+        long h = n * 0x9E3779B97F4A7C15L + begins.limit();
+        for(int e = 0; e < begins.limit(); e++)
+        {
+            h = (h ^ (((long) begins.get(e) << 32) | (ends.get(e) & 0xFFFFFFFFL))) * 0xBF58476D1CE4E5B9L;
+            h ^= h >>> 31;
+        }
+        return h;
+    }
+
+    // el conjunto de sets que contiene al vértice 0, como un BitSet...
+    private BitSet side(DisjointSet sets)
+    {
+        BitSet side = new BitSet(n);
+        int root = sets.find(0);
+        for(int v = 0; v < n; v++)
+        {
+            if(sets.find(v) == root) { side.set(v); }
+        }
+        return side;
+    }
+
+    /**
+     * Crea una repetición de Karger con el DisjointSet (la de 
+     * minimumCut(int) en grafos no densos), con sus propios arreglos 
+     * auxiliares, para un único hilo. Se puede ejecutar muchas veces sin
+     * crear objetos nuevos.
+     * @return la repetición.
+     */
+    public TrialRunner.WitnessTrial trial()
+    {
+        return new KargerTrial();
+    }
+
+    // crea las repeticiones de Karger de cada hilo: sobre una matriz de 
+    // adyacencia si el grafo es denso (ver DenseGraph.isDense()), o con el
+    // DisjointSet si no...
+    private Supplier<TrialRunner.WitnessTrial> trials()
+    {
+        if(! DenseGraph.isDense(n, countEdges())) { return KargerTrial::new; }
+        DenseGraph dense = new DenseGraph(this);
+        return dense::trial;
+    }
+
+    // una repetición de Karger con sus arreglos auxiliares, que puede armar el
+    // corte encontrado a partir de su DisjointSet...
+    private class KargerTrial implements TrialRunner.WitnessTrial
+    {
+        private final DisjointSet sets = new DisjointSet(n);
+        private final int[] order = identity(countEdges());
+
+        @Override
+        public int run(SplittableRandom random)
+        {
+            return contraction(sets, order, random);
+        }
+
+        @Override
+        public CutResult witness(int value)
+        {
+            return cutResult(value, side(sets));
+        }
+    }
+
+    /**
+     * Calcula el corte mínimo con el algoritmo de Karger, eligiendo la 
+     * cantidad de repeticiones de modo que la probabilidad de no encontrar el
+     * corte mínimo sea a lo sumo <b>failureProbability</b> (ver 
+     * TrialRunner.iterations()). Antes de repetir se hacen algunos chequeos
+     * baratos, en O(n + m), que a veces dan el resultado exacto:
+     *
+     * - si el grafo no es conexo, el corte es 0.
+     * - si el grafo tiene un puente, el corte es 1.
+     * - si no, el corte es al menos 2, y a lo sumo el grado mínimo.
+     *
+     * Las repeticiones terminan en cuanto se encuentra un corte igual a la 
+     * cota inferior, que ya no puede ser mejorado.
+     * @param failureProbability la probabilidad de falla aceptada, en (0, 1).
+     * @return el menor corte encontrado.
+     * @throws IllegalArgumentException si failureProbability no está en (0, 1).
+     */
+    public int minimumCutWithConfidence(double failureProbability)
+    {
+        return minimumCutWithConfidence(failureProbability, 1, new Random().nextLong());
+    }
+
+    /**
+     * Calcula el corte mínimo igual que minimumCutWithConfidence(double), 
+     * pero repartiendo las repeticiones entre <b>parallelism</b> hilos, con 
+     * generadores derivados de <b>seed</b>.
+     * @param failureProbability la probabilidad de falla aceptada, en (0, 1).
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @return el menor corte encontrado.
+     * @throws IllegalArgumentException si failureProbability no está en (0, 1).
+     */
+    public int minimumCutWithConfidence(double failureProbability, int parallelism, long seed)
+    {
+        int iterations = TrialRunner.iterations(n, failureProbability);
+        int m = this.countEdges();
+        if(n <= 2) { return m; }
+        if(components(new DisjointSet(n)) > 1) { return 0; }
+        if(hasBridge()) { return 1; }
+
+        int lower = 2;
+        int upper = minimumDegree();
+        TrialRunner runner = new TrialRunner(parallelism, seed);
+        return runner.run(iterations, upper, lower, trials());
+    }
+
+    /**
+     * Calcula el corte mínimo completo igual que minimumCutResult(int, int,
+     * long), pero antes reduce el grafo con un Kernel: se quitan las partes
+     * que no pueden cruzar un corte mínimo (o se resuelve el corte sin 
+     * repeticiones, si el grafo no es conexo, tiene un puente o un vértice de
+     * grado 2), y las repeticiones se hacen sobre el grafo reducido. El corte
+     * encontrado se traduce a los vértices de este grafo.
+     * @param iterations la cantidad de repeticiones.
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @return el menor corte encontrado.
+     */
+    public CutResult minimumCutKernelized(int iterations, int parallelism, long seed)
+    {
+        return new Kernel(this).minimumCut(iterations, parallelism, seed);
+    }
+
+    /**
+     * Calcula un corte mínimo aproximado con el muestreo de Karger (ver la
+     * clase SkeletonSampling): el corte mínimo exacto de un esqueleto con una
+     * fracción de los arcos, que se elige según <b>epsilon</b> y el grado 
+     * mínimo. El corte retornado es un corte real de este grafo, y con 
+     * probabilidad 1 - failureProbability su valor es a lo sumo 
+     * (1 + ε) / (1 - ε) veces el corte mínimo.
+     * @param epsilon la precisión del muestreo, en (0, 1).
+     * @param failureProbability la probabilidad de falla aceptada, en (0, 1).
+     * @param seed la semilla del muestreo.
+     * @return el corte encontrado, con su cota inferior y su confianza.
+     * @throws IllegalArgumentException si epsilon o failureProbability no
+     * están en (0, 1).
+     */
+    public ApproximateCut minimumCutApproximate(double epsilon, double failureProbability, long seed)
+    {
+        return new SkeletonSampling(this, epsilon, failureProbability).minimumCut(seed);
+    }
+
+    /**
+     * Retorna el menor grado de los vértices del grafo, sin contar lazos. Es 
+     * el valor del corte que separa a ese vértice del resto, y por lo tanto
+     * una cota superior del corte mínimo.
+     * @return el grado mínimo.
+     */
+    public int minimumDegree()
+    {
+        int min = Integer.MAX_VALUE;
+        for(int v = 0; v < n; v++) { min = Math.min(min, loopFreeDegree(v)); }
+        return min;
+    }
+
+    // el grado del vértice v sin contar sus lazos...
+    private int loopFreeDegree(int v)
+    {
+        int d = 0;
+        for(int i = offsets.get(v); i < offsets.get(v + 1); i++)
+        {
+            if(targets.get(i) != v) { d++; }
+        }
+        return d;
+    }
+
+    /**
+     * Retorna true si el grafo tiene un puente, es decir, un arco cuya 
+     * eliminación desconecta a sus extremos. Un arco con otro arco paralelo
+     * nunca es un puente. Se usa una búsqueda en profundidad iterativa 
+     * (algoritmo de Tarjan), en O(n + m).
+     * @return true si algún arco es un puente.
+     */
+    public boolean hasBridge()
+    {
+        return bridgeSide() != null;
+    }
+
+    /**
+     * Busca un puente igual que hasBridge(), y retorna el lado del corte que
+     * forma (el subárbol de la búsqueda que cuelga del puente), o null si el 
+     * grafo no tiene puentes.
+     * @return uno de los lados del corte de un puente, o null.
+     */
+    BitSet bridgeSide()
+    {
+        int[] order = new int[n];
+        int[] low = new int[n];
+        int[] parent = new int[n];
+        int[] cursor = new int[n];
+        boolean[] skipped = new boolean[n];
+        int[] stack = new int[n];
+        int time = 0;
+
+        for(int root = 0; root < n; root++)
+        {
+            if(order[root] != 0) { continue; }
+
+            int top = 0;
+            stack[top++] = root;
+            parent[root] = -1;
+            order[root] = low[root] = ++time;
+            cursor[root] = offsets.get(root);
+            while(top > 0)
+            {
+                int v = stack[top - 1];
+                if(cursor[v] < offsets.get(v + 1))
+                {
+                    int w = targets.get(cursor[v]++);
+                    if(w == v) { continue; }
+
+                    // el arco al padre se saltea una sola vez: las copias 
+                    // paralelas cuentan como arcos de retroceso...
+                    if(w == parent[v] && !skipped[v])
+                    {
+                        skipped[v] = true;
+                        continue;
+                    }
+                    if(order[w] == 0)
+                    {
+                        parent[w] = v;
+                        order[w] = low[w] = ++time;
+                        cursor[w] = offsets.get(w);
+                        stack[top++] = w;
+                    }
+                    else if(order[w] < low[v]) { low[v] = order[w]; }
+                }
+                else
+                {
+                    top--;
+                    int p = parent[v];
+                    if(p >= 0)
+                    {
+                        if(low[v] > order[p])
+                        {
+                            // el subárbol de v es lo descubierto desde v...
+                            BitSet side = new BitSet(n);
+                            for(int x = 0; x < n; x++)
+                            {
+                                if(order[x] >= order[v]) { side.set(x); }
+                            }
+                            return side;
+                        }
+                        if(low[v] < low[p]) { low[p] = low[v]; }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    // una repetición de Karger: contrae hasta dos supernodos y cuenta el corte.
+    // order es una permutación de los arcos, que se mezcla a medida que se usa
+    // (Fisher-Yates parcial): cada arco se mira a lo sumo una vez...
+    private int contraction(DisjointSet sets, int[] order, SplittableRandom random)
+    {
+        sets.reset();
+
+        int m = this.countEdges();
+        for(int i = 0; sets.count() > 2; i++)
+        {
+            int j = i + random.nextInt(m - i);
+            int e = order[j];
+            order[j] = order[i];
+            order[i] = e;
+
+            sets.union(begins.get(e), ends.get(e));
+        }
+
+        int cut = 0;
+        for(int e = 0; e < m; e++)
+        {
+            if(sets.find(begins.get(e)) != sets.find(ends.get(e))) { cut++; }
+        }
+        return cut;
+    }
+
+    // cuenta las componentes conexas del grafo, usando sets como auxiliar...
+    private int components(DisjointSet sets)
+    {
+        sets.reset();
+        for(int e = 0; e < begins.limit(); e++) { sets.union(begins.get(e), ends.get(e)); }
+        return sets.count();
+    }
+
+    // retorna el arreglo 0, 1, ..., m-1...
+    static int[] identity(int m)
+    {
+        int[] order = new int[m];
+        for(int i = 0; i < m; i++) { order[i] = i; }
+        return order;
+    }
+}
@@ -0,0 +1,180 @@
+package UndirectedGraph;
+
+import java.util.SplittableRandom;
+
+/**
+ * Usada para ejecutar la contracción aleatoria de UndirectedGraph sobre
+ * arreglos planos en lugar de una copia del grafo. La semántica es la misma:
+ * en cada paso se elige al azar uno de los arcos que quedan, su extremo se une
+ * al otro extremo (los arcos del vértice absorbido pasan al que queda), y se
+ * eliminan los arcos que unían a ambos. Al quedar dos supernodos, el corte es
+ * la cantidad de arcos que quedan.
+ *
+ * Los arreglos se cargan una única vez a partir del grafo; antes de cada
+ * repetición se restauran en O(n + m) copiando los arreglos iniciales con
+ * System.arraycopy(), de modo que las repeticiones no crean objetos. Un
+ * ContractionWorkspace es usado por un único hilo.
+ *
+ * Los arcos que quedan se guardan como en ArcList (un arreglo en el que cada
+ * arco recuerda su posición), y la lista de arcos de cada supernodo es una
+ * lista enlazada de "slots" (el slot 2a es el arco a visto desde su primer
+ * extremo, y el 2a+1 desde el segundo), de modo que unir dos supernodos es
+ * enlazar sus listas en O(1). Los arcos eliminados quedan en las listas, y se
+ * saltean al recorrerlas. Siempre se absorbe el supernodo con menos slots, lo
+ * que no cambia el resultado y acota el trabajo total de una repetición a
+ * O(m log n).
+ *
+ * @author paula
+ */
+public class ContractionWorkspace implements TrialRunner.Trial
+{
+    // la cantidad de vértices...
+    private final int n;
+
+    // los extremos actuales de cada arco, y los originales...
+    private final int[] begin, end;
+    private final int[] initialBegin, initialEnd;
+
+    // los arcos que quedan en live[0..count-1], y la posición de cada arco en
+    // live (-1 si fue eliminado)...
+    private final int[] live, position;
+    private final int[] initialLive, initialPosition;
+    private final int initialCount;
+    private int count;
+
+    // la lista de slots de cada supernodo, y su cantidad de slots...
+    private final int[] head, tail, next, size;
+    private final int[] initialHead, initialTail, initialNext, initialSize;
+
+    // la cantidad de supernodos...
+    private int nodes;
+
+    /**
+     * Crea un ContractionWorkspace para el grafo <b>g</b>. Los lazos de g no
+     * cruzan ningún corte, así que no se cargan.
+     * @param g el grafo a contraer.
+     */
+    public ContractionWorkspace(CompactGraph g)
+    {
+        n = g.countNodes();
+        int m = g.countEdges();
+
+        initialBegin = new int[m];
+        initialEnd = new int[m];
+        initialLive = new int[m];
+        initialPosition = new int[m];
+        initialHead = new int[n];
+        initialTail = new int[n];
+        initialNext = new int[2 * m];
+        initialSize = new int[n];
+
+        int c = 0;
+        for(int v = 0; v < n; v++) { initialHead[v] = initialTail[v] = -1; }
+        for(int a = 0; a < m; a++)
+        {
+            initialBegin[a] = g.begin(a);
+            initialEnd[a] = g.end(a);
+            if(initialBegin[a] == initialEnd[a])
+            {
+                initialPosition[a] = -1;
+                continue;
+            }
+            initialPosition[a] = c;
+            initialLive[c++] = a;
+            link(initialHead, initialTail, initialNext, initialSize, initialBegin[a], 2 * a);
+            link(initialHead, initialTail, initialNext, initialSize, initialEnd[a], 2 * a + 1);
+        }
+        initialCount = c;
+
+        begin = new int[m];
+        end = new int[m];
+        live = new int[m];
+        position = new int[m];
+        head = new int[n];
+        tail = new int[n];
+        next = new int[2 * m];
+        size = new int[n];
+    }
+
+    // agrega el slot s al final de la lista de v...
+    private static void link(int[] head, int[] tail, int[] next, int[] size, int v, int s)
+    {
+        next[s] = -1;
+        if(head[v] == -1) { head[v] = s; } else { next[tail[v]] = s; }
+        tail[v] = s;
+        size[v]++;
+    }
+
+    /**
+     * Vuelve al grafo original, copiando los arreglos iniciales.
+     */
+    public void reset()
+    {
+        System.arraycopy(initialBegin, 0, begin, 0, begin.length);
+        System.arraycopy(initialEnd, 0, end, 0, end.length);
+        System.arraycopy(initialLive, 0, live, 0, live.length);
+        System.arraycopy(initialPosition, 0, position, 0, position.length);
+        System.arraycopy(initialHead, 0, head, 0, n);
+        System.arraycopy(initialTail, 0, tail, 0, n);
+        System.arraycopy(initialNext, 0, next, 0, next.length);
+        System.arraycopy(initialSize, 0, size, 0, n);
+        count = initialCount;
+        nodes = n;
+    }
+
+    /**
+     * Ejecuta una repetición: restaura el grafo y lo contrae eligiendo arcos
+     * con <b>random</b> hasta que quedan dos supernodos (o no quedan arcos, si
+     * el grafo no es conexo).
+     * @param random el generador de números aleatorios de la repetición.
+     * @return la cantidad de arcos entre los dos supernodos.
+     */
+    @Override
+    public int run(SplittableRandom random)
+    {
+        reset();
+        while(nodes > 2 && count > 0)
+        {
+            contraction(live[random.nextInt(count)]);
+        }
+        return count;
+    }
+
+    // une los extremos del arco a, eliminando los arcos que quedan como lazos...
+    private void contraction(int a)
+    {
+        int u = begin[a], v = end[a];
+        if(size[u] < size[v])
+        {
+            int x = u;
+            u = v;
+            v = x;
+        }
+
+        for(int s = head[v]; s != -1; s = next[s])
+        {
+            int x = s >> 1;
+            if(position[x] < 0) { continue; }
+
+            if(begin[x] == v) { begin[x] = u; }
+            if(end[x] == v) { end[x] = u; }
+            if(begin[x] == end[x]) { remove(x); }
+        }
+
+        next[tail[u]] = head[v];
+        tail[u] = tail[v];
+        size[u] += size[v];
+        head[v] = tail[v] = -1;
+        nodes--;
+    }
+
+    // quita el arco x de live, reemplazándolo por el último...
+    private void remove(int x)
+    {
+        int p = position[x];
+        int last = live[--count];
+        live[p] = last;
+        position[last] = p;
+        position[x] = -1;
+    }
+}
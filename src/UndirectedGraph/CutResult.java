@@ -0,0 +1,148 @@
+package UndirectedGraph;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.BitSet;
+
+/**
+ * Usada para representar un corte de un grafo: su valor (la cantidad o el peso
+ * total de los arcos que cruzan el corte), uno de sus lados, como un BitSet
+ * de índices de vértices, y los arcos que cruzan el corte. Los índices son los
+ * de un CompactGraph, que a su vez siguen el orden de la lista de vértices (y
+ * de arcos) del Graph de origen. El otro lado del corte está formado por los
+ * vértices que no están en el BitSet.
+ *
+ * @author paula
+ */
+public class CutResult
+{
+    // el valor del corte...
+    private final int value;
+
+    // uno de los lados del corte...
+    private final BitSet side;
+
+    // la cantidad de vértices del grafo cortado...
+    private final int nodes;
+
+    // los índices de los arcos que cruzan el corte...
+    private final int[] crossing;
+
+    /**
+     * Crea un corte con valor <b>value</b> cuyo primer lado es <b>side</b>,
+     * sobre un grafo de <b>nodes</b> vértices, y cruzado por los arcos de
+     * índices <b>crossing</b>.
+     * @param value el valor del corte.
+     * @param side los vértices de uno de los lados.
+     * @param nodes la cantidad de vértices del grafo.
+     * @param crossing los índices de los arcos que cruzan el corte.
+     * @throws NullPointerException si side o crossing son null.
+     */
+    public CutResult(int value, BitSet side, int nodes, int[] crossing)
+    {
+        if(side == null) { throw new NullPointerException("Error: lado del corte no definido..."); }
+        if(crossing == null) { throw new NullPointerException("Error: arcos del corte no definidos..."); }
+        this.value = value;
+        this.side = side;
+        this.nodes = nodes;
+        this.crossing = crossing;
+    }
+
+    /**
+     * Retorna el valor del corte.
+     * @return el valor del corte.
+     */
+    public int getValue()
+    {
+        return value;
+    }
+
+    /**
+     * Retorna una copia del conjunto de vértices de uno de los lados del corte.
+     * @return los vértices del primer lado.
+     */
+    public BitSet getSide()
+    {
+        return (BitSet) side.clone();
+    }
+
+    /**
+     * Retorna true si el vértice v está en el primer lado del corte.
+     * @param v el índice del vértice.
+     * @return true si v está en el lado retornado por getSide().
+     */
+    public boolean isInSide(int v)
+    {
+        return side.get(v);
+    }
+
+    /**
+     * Retorna la cantidad de vértices del grafo cortado.
+     * @return la cantidad de vértices.
+     */
+    public int countNodes()
+    {
+        return nodes;
+    }
+
+    /**
+     * Retorna una copia de los índices de los arcos que cruzan el corte, en
+     * orden creciente (ver CompactGraph.begin() y CompactGraph.end()).
+     * @return los arcos que cruzan el corte.
+     */
+    public int[] getCrossingEdges()
+    {
+        return crossing.clone();
+    }
+
+    /**
+     * Retorna la cantidad de arcos que cruzan el corte.
+     * @return la cantidad de arcos del corte.
+     */
+    public int countCrossingEdges()
+    {
+        return crossing.length;
+    }
+
+    /**
+     * Escribe el corte en <b>out</b>, como lo lee read(): el valor, la
+     * cantidad de vértices, las palabras del lado y los arcos que lo cruzan.
+     * Lo usan Checkpoint y el protocolo de los procesos de ShardWorker.
+     * @param out la salida.
+     * @throws IOException si no se puede escribir.
+     */
+    public void write(DataOutput out) throws IOException
+    {
+        out.writeInt(value);
+        out.writeInt(nodes);
+        long[] words = side.toLongArray();
+        out.writeInt(words.length);
+        for(long w : words) { out.writeLong(w); }
+        out.writeInt(crossing.length);
+        for(int e : crossing) { out.writeInt(e); }
+    }
+
+    /**
+     * Lee un corte escrito por write().
+     * @param in la entrada.
+     * @return el corte leído.
+     * @throws IOException si no se puede leer.
+     */
+    public static CutResult read(DataInput in) throws IOException
+    {
+        int value = in.readInt();
+        int nodes = in.readInt();
+        long[] words = new long[in.readInt()];
+        for(int i = 0; i < words.length; i++) { words[i] = in.readLong(); }
+        int[] crossing = new int[in.readInt()];
+        for(int i = 0; i < crossing.length; i++) { crossing[i] = in.readInt(); }
+        return new CutResult(value, BitSet.valueOf(words), nodes, crossing);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Corte " + value + ": " + side;
+    }
+}
@@ -0,0 +1,100 @@
+package UndirectedGraph;
+
+/**
+ * Usada para representar una partición de los enteros 0..n-1 en conjuntos
+ * disjuntos (union-find), con unión por tamaño y compresión de caminos a la
+ * mitad. Se usa para registrar los supernodos durante una contracción sin
+ * modificar el grafo: contraer un arco es unir los conjuntos de sus extremos.
+ * El método reset() vuelve a la partición inicial sin crear objetos nuevos, de
+ * modo que un mismo DisjointSet puede usarse en todas las repeticiones.
+ *
+ * @author paula
+ */
+public class DisjointSet
+{
+    // el padre de cada elemento (un representante es su propio padre)...
+    private final int[] parent;
+
+    // el tamaño de cada conjunto, válido sólo para los representantes...
+    private final int[] size;
+
+    // la cantidad de conjuntos...
+    private int count;
+
+    /**
+     * Crea una partición de 0..n-1 en n conjuntos de un elemento.
+     * @param n la cantidad de elementos.
+     */
+    public DisjointSet(int n)
+    {
+        parent = new int[n];
+        size = new int[n];
+        reset();
+    }
+
+    /**
+     * Vuelve a la partición inicial, con cada elemento en su propio conjunto.
+     */
+    public final void reset()
+    {
+        for(int v = 0; v < parent.length; v++)
+        {
+            parent[v] = v;
+            size[v] = 1;
+        }
+        count = parent.length;
+    }
+
+    /**
+     * Retorna el representante del conjunto que contiene a v.
+     * @param v el elemento.
+     * @return el representante del conjunto de v.
+     */
+    public int find(int v)
+    {
+        while(parent[v] != v)
+        {
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+        return v;
+    }
+
+    /**
+     * Une los conjuntos que contienen a <b>a</b> y a <b>b</b>. Retorna true si
+     * eran conjuntos distintos, y false si ya estaban unidos.
+     * @param a un elemento del primer conjunto.
+     * @param b un elemento del segundo conjunto.
+     * @return true si la unión tuvo efecto.
+     */
+    public boolean union(int a, int b)
+    {
+        a = find(a);
+        b = find(b);
+        if(a == b) { return false; }
+
+        if(size[a] < size[b]) { int aux = a; a = b; b = aux; }
+        parent[b] = a;
+        size[a] += size[b];
+        count--;
+        return true;
+    }
+
+    /**
+     * Retorna la cantidad de conjuntos de la partición.
+     * @return la cantidad de conjuntos.
+     */
+    public int count()
+    {
+        return count;
+    }
+
+    /**
+     * Retorna la cantidad de elementos de la partición.
+     * @return la cantidad de elementos.
+     */
+    public int size()
+    {
+        return parent.length;
+    }
+}
@@ -0,0 +1,90 @@
+package UndirectedGraph;
+
+/**
+ * Usada para representar una secuencia de pesos enteros no negativos en las
+ * posiciones 0..n-1 (un árbol de Fenwick), de modo de poder cambiar un peso y
+ * elegir una posición con probabilidad proporcional a su peso en O(log n).
+ *
+ * @author paula
+ */
+public class FenwickTree
+{
+    // las sumas parciales del árbol (índices desde 1)...
+    private final long[] tree;
+
+    // el peso de cada posición...
+    private final int[] weights;
+
+    // la mayor potencia de 2 que no supera n, para la búsqueda...
+    private final int top;
+
+    /**
+     * Crea un árbol con <b>n</b> posiciones, todas con peso 0.
+     * @param n la cantidad de posiciones.
+     */
+    public FenwickTree(int n)
+    {
+        tree = new long[n + 1];
+        weights = new int[n];
+        top = n == 0 ? 0 : Integer.highestOneBit(n);
+    }
+
+    /**
+     * Cambia el peso de la posición i por <b>w</b>.
+     * @param i la posición.
+     * @param w el nuevo peso (no negativo).
+     * @throws IllegalArgumentException si w es negativo.
+     */
+    public void set(int i, int w)
+    {
+        if(w < 0) { throw new IllegalArgumentException("Error: peso negativo: " + w); }
+
+        long delta = (long) w - weights[i];
+        weights[i] = w;
+        for(int j = i + 1; j < tree.length; j += j & -j) { tree[j] += delta; }
+    }
+
+    /**
+     * Retorna el peso de la posición i.
+     * @param i la posición.
+     * @return el peso de la posición i.
+     */
+    public int get(int i)
+    {
+        return weights[i];
+    }
+
+    /**
+     * Retorna la suma de todos los pesos.
+     * @return el peso total.
+     */
+    public long total()
+    {
+        long sum = 0;
+        for(int j = tree.length - 1; j > 0; j -= j & -j) { sum += tree[j]; }
+        return sum;
+    }
+
+    /**
+     * Retorna la posición i tal que la suma de los pesos de 0..i-1 es menor o
+     * igual a <b>r</b> y la suma de los pesos de 0..i es mayor a r. Si r se
+     * elige al azar en [0, total()), cada posición resulta elegida con
+     * probabilidad proporcional a su peso.
+     * @param r un valor en [0, total()).
+     * @return la posición elegida.
+     */
+    public int find(long r)
+    {
+        int pos = 0;
+        for(int step = top; step > 0; step >>= 1)
+        {
+            int next = pos + step;
+            if(next < tree.length && tree[next] <= r)
+            {
+                pos = next;
+                r -= tree[next];
+            }
+        }
+        return pos;
+    }
+}
@@ -1,13 +1,19 @@
 package UndirectedGraph;
 
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Usada para representar un grafo implementado con listas de adyacencia. Un
  * objeto Graph contiene una lista de vértices o nodos, que contendrán objetos 
  * de la clase T. Un Graph contiene también una lista con todos los arcos o 
- * aristas del grafo, de modo de poder acceder a todos los arcos en tiempo 
- * lineal. 
+ * aristas del grafo (un ArcList), de modo de poder acceder a todos los arcos 
+ * en tiempo lineal, y a un arco cualquiera o quitarlo en tiempo constante. 
+ * Además mantiene un índice (una tabla hash) que asocia el valor de cada 
+ * vértice con su Node, de modo de poder encontrar un vértice en tiempo 
+ * constante esperado al insertar vértices y arcos.
  * 
  * @author Ing. Valerio Frittelli.
  * @version Marzo de 2014.
@@ -18,7 +24,10 @@ public abstract class Graph <T> implements Cloneable
     protected LinkedList < Node <T> > vertices;
     
     // la lista de arcos...
-    protected LinkedList < Arc <T> > edges;
+    protected ArcList <T> edges;
+    
+    // el índice de vértices: valor -> Node (debe reflejar siempre a vertices)...
+    protected HashMap < T, Node <T> > index;
     
     // un flag para recordar si el grafo acepta o no arcos paralelos...
     protected boolean allow_parallel_arcs;
@@ -63,6 +72,7 @@ public abstract class Graph <T> implements Cloneable
      * (p = true) o no (p = false). El método no controla si las listas de 
      * entrada contienen objetos válidos. Si alguna de las dos listas de entrada 
      * es null, la lista correspondiente se creará vacía.
+     * Los arcos de <b>a</b> se copian en el ArcList del grafo.
      * @param v la lista de vértices a almacenar en el grafo.
      * @param a la lista de arco a almacenar en el grafo.
      * @param p true: el grafo acepta arcos paralelos.
@@ -72,8 +82,10 @@ public abstract class Graph <T> implements Cloneable
         if(v == null) { v = new LinkedList<> (); }
         this.vertices = v;
         
-        if(a == null) { a = new LinkedList<> (); }
-        this.edges = a;
+        this.index = new HashMap<> ();
+        for(Node <T> x : v) { this.index.put(x.getValue(), x); }
+        
+        this.edges = new ArcList<> (a);
         
         this.allow_parallel_arcs = p;
     }
@@ -106,10 +118,24 @@ public abstract class Graph <T> implements Cloneable
     {
         if(v == null) { return false; }
         
-        if(vertices.contains(v)) { return false; }
+        if(index.containsKey(v.getValue())) { return false; }
+        index.put(v.getValue(), v);
         return vertices.add(v);
     }
     
+    /**
+     * Quita el vértice <b>v</b> de la lista de vértices y del índice del grafo,
+     * y retorna true si estaba en el grafo. No modifica los arcos: quien llama 
+     * debe haber quitado o redirigido antes los arcos incidentes a v.
+     * @param v el vértice a quitar.
+     * @return true si el vértice estaba en el grafo.
+     */
+    protected boolean remove(Node<T> v)
+    {
+        if(v == null || index.remove(v.getValue()) == null) { return false; }
+        return vertices.remove(v);
+    }
+    
     /**
      * Agrega un arco <b>a</b> en la lista de arcos del grafo y retorna true si
      * la operación tuvo éxito. El arco no será insertado (y se retornará false
@@ -124,36 +150,35 @@ public abstract class Graph <T> implements Cloneable
      */
     public boolean add(Arc <T> a)
     {
-        // si el arco es null, salir con false...
-        if(a == null) { return false; }
+        // si el arco es null, o es el mismo objeto que ya está en el grafo, 
+        // salir con false...
+        if(a == null || edges.contains(a)) { return false; }
         
         // si el nodo inicial es null, salir con false...
         Node <T> in = a.getInit();
         if(in == null) { return false; }
         
         // si el nodo inicial no es null y no está en el grafo, salir con false...
-        int idxin = vertices.indexOf(in);
-        if(idxin == -1) { return false; }
+        Node <T> ni = index.get(in.getValue());
+        if(ni == null) { return false; }
         
         // si el nodo final es null, salir con false...
         Node <T> en = a.getEnd();
         if(en == null) { return false; }
         
         // si el nodo final no es null y no está en el grafo, salir con false...
-        int idxen = vertices.indexOf(en);
-        if(idxen == -1) { return false; }
+        Node <T> ne = index.get(en.getValue());
+        if(ne == null) { return false; }
         
         // acceder a las listas de arcos de los vértices inicial y final...
-        Node <T> ni = vertices.get(idxin);
         LinkedList < Arc <T> > lni = ni.getArcs();
-
-        Node <T> ne = vertices.get(idxen);
         LinkedList < Arc <T> > lne = ne.getArcs();
 
         // si se aceptan arcos paralelos agregar el arco en todas las listas 
-        // y salir con true... lo mismo si no se aceptan arcos paralelos y la
-        // lista general de arcos no contiene a ese arco...
-        if(this.allow_parallel_arcs || ! this.edges.contains(a))
+        // y salir con true... lo mismo si no se aceptan arcos paralelos y el
+        // vértice inicial no tiene ya ese arco (un arco igual estaría en su 
+        // lista, así que no hace falta recorrer la lista general de arcos)...
+        if(this.allow_parallel_arcs || ! lni.contains(a))
         {
             lni.add(a);
             lne.add(a);
@@ -165,6 +190,23 @@ public abstract class Graph <T> implements Cloneable
         return false;
     }
 
+    /**
+     * Quita el arco <b>a</b> (el mismo objeto, no uno igual) del grafo: de la
+     * lista de arcos y de las listas de sus dos vértices. Retorna true si el
+     * arco estaba en el grafo. Los vértices no se quitan, aunque queden
+     * aislados.
+     * @param a el arco a quitar.
+     * @return true si el arco estaba en el grafo.
+     */
+    public boolean remove(Arc <T> a)
+    {
+        if(! edges.remove(a)) { return false; }
+
+        index.get(a.getInit().getValue()).getArcs().removeIf(x -> x == a);
+        index.get(a.getEnd().getValue()).getArcs().removeIf(x -> x == a);
+        return true;
+    }
+
     /**
      * Crea un arco con valor <b>n1</b> como vértice inicial y valor <b>n2</b> 
      * como vértice final, con peso igual a 0. Retorna true si el arco pudo 
@@ -312,20 +354,20 @@ public abstract class Graph <T> implements Cloneable
         if( in == null || en == null ) { return false; }        
         
         // si "in" no existe y no tenemos permiso de crearlo, salir con false...
-        int idxin = vertices.indexOf(in);
-        if( idxin == -1 && create == false) { return false; }
+        Node <T> nin = index.get(in.getValue());
+        if( nin == null && create == false) { return false; }
         
         // si "en" no existe y no tenemos permiso de crearlo, salir con false...
-        int idxen = vertices.indexOf(en);
-        if( idxen == -1 && create == false ) { return false; }
+        Node <T> nen = index.get(en.getValue());
+        if( nen == null && create == false ) { return false; }
               
         // si llegué acá, es una de dos: 
         // 1) algún vertice no existe, y tengo permiso de agregarlo al grafo...
         // 2) algún vértice existe y no debe volver a agregarlo al grafo...
         // los if de abajo hacen eso, de forma que las referencias in y en salen
         // apuntando al vértice correcto: el agregado o el que ya estaba.
-        if(idxin == -1) {this.add(in);} else {in = this.vertices.get(idxin);}
-        if(idxen == -1) {this.add(en);} else {en = this.vertices.get(idxen);}
+        if(nin == null) {this.add(in);} else {in = nin;}
+        if(nen == null) {this.add(en);} else {en = nen;}
         
         // crear el arco, e intentar agregarlo con el método add(Arc<T> a)...
         Arc <T> arc = createArc(in, en, w);
@@ -352,19 +394,21 @@ public abstract class Graph <T> implements Cloneable
     @Override
     public Object clone() throws CloneNotSupportedException
     {
-        Graph copy = (Graph) super.clone();
+        @SuppressWarnings("unchecked")
+        Graph <T> copy = (Graph <T>) super.clone();
         
         copy.vertices = new LinkedList <> ();
-        for(Node v : this.vertices)
+        copy.index = new HashMap <> ();
+        for(Node <T> v : this.vertices)
         {
-            copy.vertices.add(new Node(v.getValue()));
+            copy.add(new Node <> (v.getValue()));
         }
         
-        copy.edges = new LinkedList<> ();
-        for(Arc a : this.edges)
+        copy.edges = new ArcList<> ();
+        for(Arc <T> a : this.edges)
         {
-            Node <T> in = new Node(a.getInit().getValue());
-            Node <T> en = new Node(a.getEnd().getValue());
+            Node <T> in = new Node <> (a.getInit().getValue());
+            Node <T> en = new Node <> (a.getEnd().getValue());
             int w = a.getWeight();
             copy.addArc(in, en, w, false);           
         }
@@ -401,8 +445,8 @@ public abstract class Graph <T> implements Cloneable
     public abstract Arc <T> createArc(Node <T> in, Node <T> en, int w);
     
     /**
-     * Retorna un arco del grafo, seleccionado aleatoriamente. Si el grafo no 
-     * tiene arcos, el metodo retorna null.
+     * Retorna un arco del grafo, seleccionado aleatoriamente en tiempo 
+     * constante. Si el grafo no tiene arcos, el metodo retorna null.
      * @return un arco del grafo, seleccionado en forma aleatoria.
      */
 
@@ -411,10 +455,24 @@ public abstract class Graph <T> implements Cloneable
         int m = this.countEdges();
         if(m == 0) { return null; }
         
-        int ri = (int)(Math.random() * m);
+        int ri = ThreadLocalRandom.current().nextInt(m);
         return edges.get(ri);
     }
     
+    /**
+     * Retorna un arco del grafo, seleccionado aleatoriamente con el generador
+     * <b>random</b>. Si el grafo no tiene arcos, el metodo retorna null.
+     * @param random el generador de números aleatorios a usar.
+     * @return un arco del grafo, seleccionado en forma aleatoria.
+     */
+    public Arc <T> getRandomArc(SplittableRandom random)
+    {
+        int m = this.countEdges();
+        if(m == 0) { return null; }
+        
+        return edges.get(random.nextInt(m));
+    }
+    
     /**
      * Retorna la cantidad de arcos incidentes (todos arcos que tienen al 
      * k-ésimo nodo como primero o como segundo vértice) al vértice en la 
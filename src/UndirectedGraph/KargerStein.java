@@ -0,0 +1,152 @@
+package UndirectedGraph;
+
+import java.util.SplittableRandom;
+
+/**
+ * Calcula el corte mínimo de un CompactGraph con el algoritmo recursivo de
+ * Karger-Stein. En cada nivel el multigrafo se contrae al azar hasta que le
+ * quedan alrededor de n/√2 supernodos, y eso se hace dos veces en forma
+ * independiente, resolviendo cada resultado en forma recursiva. Los grafos de
+ * a lo sumo SMALL vértices se resuelven en forma exacta, probando todas sus
+ * biparticiones.
+ *
+ * Una ejecución tiene probabilidad de éxito Ω(1 / log n) con un costo de
+ * O(n² log n), contra probabilidad Ω(1 / n²) y costo O(m) de una repetición
+ * de Karger: alcanzan O(log² n) ejecuciones para tener alta probabilidad de
+ * acierto, en lugar de O(n² log n) repeticiones.
+ *
+ * @author paula
+ */
+public class KargerStein
+{
+    // los grafos con hasta esta cantidad de vértices se resuelven por fuerza bruta...
+    private static final int SMALL = 6;
+
+    // el grafo a cortar...
+    private final CompactGraph graph;
+
+    /**
+     * Crea un KargerStein para calcular el corte mínimo de <b>g</b>.
+     * @param g el grafo a cortar.
+     */
+    public KargerStein(CompactGraph g)
+    {
+        if(g == null) { throw new NullPointerException("Error: grafo no definido..."); }
+        this.graph = g;
+    }
+
+    /**
+     * Retorna el menor corte encontrado en <b>iterations</b> ejecuciones
+     * independientes del algoritmo.
+     * @param iterations la cantidad de ejecuciones.
+     * @return el menor corte encontrado.
+     */
+    public int minimumCut(int iterations)
+    {
+        return minimumCut(iterations, 1, System.nanoTime());
+    }
+
+    /**
+     * Retorna el menor corte encontrado en <b>iterations</b> ejecuciones
+     * independientes del algoritmo, repartidas entre <b>parallelism</b> hilos
+     * y con generadores derivados de <b>seed</b>.
+     * @param iterations la cantidad de ejecuciones.
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @return el menor corte encontrado.
+     */
+    public int minimumCut(int iterations, int parallelism, long seed)
+    {
+        int n = graph.countNodes();
+        int m = graph.countEdges();
+        if(n <= 2 || iterations <= 0) { return m; }
+
+        int[] b = new int[m];
+        int[] e = new int[m];
+        for(int i = 0; i < m; i++)
+        {
+            b[i] = graph.begin(i);
+            e[i] = graph.end(i);
+        }
+
+        TrialRunner runner = new TrialRunner(parallelism, seed);
+        return runner.run(iterations, m, () -> random -> recursiveCut(n, m, b, e, random));
+    }
+
+    // resuelve el multigrafo de n vértices y m arcos (b[i], e[i])...
+    private static int recursiveCut(int n, int m, int[] b, int[] e, SplittableRandom random)
+    {
+        if(n <= SMALL) { return bruteForceCut(n, m, b, e); }
+
+        int t = (int) Math.ceil(1 + n / Math.sqrt(2));
+        int best = Integer.MAX_VALUE;
+        for(int branch = 0; branch < 2; branch++)
+        {
+            int[] nb = new int[m];
+            int[] ne = new int[m];
+            int nm = contract(n, m, b, e, t, nb, ne, random);
+            if(nm < 0) { return 0; }
+
+            best = Math.min(best, recursiveCut(t, nm, nb, ne, random));
+        }
+        return best;
+    }
+
+    // contrae arcos al azar (sin reposición) hasta dejar t supernodos, y copia
+    // en nb y ne los arcos que quedan entre supernodos, renumerados 0..t-1...
+    // retorna la cantidad de arcos copiados, o -1 si el grafo no es conexo...
+    private static int contract(int n, int m, int[] b, int[] e, int t, int[] nb, int[] ne, SplittableRandom random)
+    {
+        DisjointSet sets = new DisjointSet(n);
+        int[] order = CompactGraph.identity(m);
+
+        for(int i = 0; sets.count() > t; i++)
+        {
+            if(i == m) { return -1; }
+
+            int j = i + random.nextInt(m - i);
+            int x = order[j];
+            order[j] = order[i];
+            order[i] = x;
+
+            sets.union(b[x], e[x]);
+        }
+
+        int[] id = new int[n];
+        int next = 0;
+        for(int v = 0; v < n; v++)
+        {
+            if(sets.find(v) == v) { id[v] = next++; }
+        }
+
+        int nm = 0;
+        for(int i = 0; i < m; i++)
+        {
+            int r1 = sets.find(b[i]);
+            int r2 = sets.find(e[i]);
+            if(r1 != r2)
+            {
+                nb[nm] = id[r1];
+                ne[nm] = id[r2];
+                nm++;
+            }
+        }
+        return nm;
+    }
+
+    // prueba todas las biparticiones de un multigrafo de a lo sumo SMALL vértices...
+    private static int bruteForceCut(int n, int m, int[] b, int[] e)
+    {
+        int best = m;
+        for(int mask = 1; mask < (1 << (n - 1)); mask++)
+        {
+            int cut = 0;
+            for(int i = 0; i < m; i++)
+            {
+                if(((mask >> b[i]) & 1) != ((mask >> e[i]) & 1)) { cut++; }
+            }
+            if(cut < best) { best = cut; }
+        }
+        return best;
+    }
+}
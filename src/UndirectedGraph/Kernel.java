@@ -0,0 +1,333 @@
+package UndirectedGraph;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Reduce un CompactGraph a un grafo más chico (su núcleo) con el mismo corte
+ * mínimo, antes de las repeticiones de Karger, cuyo costo crece con n y m.
+ * Como en minimumCut(), cada arco cuenta 1 (los pesos no se usan). Las
+ * reducciones son seguras: o el núcleo conserva un corte mínimo del grafo, o
+ * el mejor corte encontrado durante la reducción (getBound()) ya es mínimo.
+ *
+ * - si el grafo no es conexo, el corte es 0; si tiene un puente, es 1. En
+ *   ambos casos el resultado es exacto y no hace falta núcleo.
+ * - en un grafo sin puentes el corte es al menos 2, así que un vértice de
+ *   grado 2 (por ejemplo, en una cadena) ya es un corte mínimo.
+ * - en rondas, se unen los pares de vértices que pasan alguna de las pruebas
+ *   de Padberg-Rinaldi (ver padbergRinaldi()), y el grado de cada supernodo
+ *   es un corte candidato. Los arcos conservan su identidad (el núcleo es un
+ *   multigrafo), así que cada corte del núcleo vale lo mismo en el grafo.
+ * - por último se conservan sólo los arcos de los primeros k bosques de una
+ *   búsqueda de máxima adyacencia (el certificado ralo de Nagamochi-Ibaraki),
+ *   con k el mejor corte conocido: los cortes menores que k valen lo mismo.
+ *
+ * El corte que se encuentra en el núcleo se traduce a los vértices originales
+ * con expand(), y su valor se cuenta en el grafo original.
+ *
+ * @author paula
+ */
+public class Kernel
+{
+    // el grafo original...
+    private final CompactGraph graph;
+
+    // el vértice del núcleo que contiene a cada vértice original...
+    private final int[] map;
+
+    // el núcleo, o null si el resultado ya es exacto...
+    private final CompactGraph kernel;
+
+    // el mejor corte del grafo original encontrado al reducir...
+    private CutResult bound;
+
+    /**
+     * Reduce el grafo <b>g</b>, en O(n + m) por ronda.
+     * @param g el grafo a reducir.
+     */
+    public Kernel(CompactGraph g)
+    {
+        if(g == null) { throw new NullPointerException("Error: grafo no definido..."); }
+        this.graph = g;
+
+        int n = g.countNodes();
+        map = CompactGraph.identity(n);
+        bound = g.trivialCut();
+        if(bound != null)
+        {
+            kernel = null;
+            return;
+        }
+
+        // los arcos del grafo actual, sin lazos...
+        int m = 0;
+        int[] b = new int[g.countEdges()], e = new int[g.countEdges()];
+        for(int a = 0; a < g.countEdges(); a++)
+        {
+            if(g.begin(a) == g.end(a)) { continue; }
+            b[m] = g.begin(a);
+            e[m++] = g.end(a);
+        }
+
+        boolean progress = true;
+        while(true)
+        {
+            int[] degree = degrees(n, m, b, e);
+            improve(n, degree);
+            if(bound.getValue() <= 2 || n <= 2 || ! progress) { break; }
+
+            DisjointSet joined = padbergRinaldi(n, m, b, e, degree, bound.getValue());
+            if(joined.count() == n) { break; }
+
+            m = contract(joined, m, b, e, map);
+            progress = n - joined.count() >= Math.max(1, n / 32);
+            n = joined.count();
+        }
+
+        if(bound.getValue() <= 2 || n <= 2)
+        {
+            kernel = null;
+            return;
+        }
+        m = certificate(n, m, b, e, bound.getValue());
+        kernel = new CompactGraph(n, m, b, e);
+    }
+
+    /**
+     * Retorna true si el mejor corte encontrado al reducir ya es el corte
+     * mínimo, y no hace falta buscar en el núcleo.
+     * @return true si getBound() es el corte mínimo.
+     */
+    public boolean isExact()
+    {
+        return kernel == null;
+    }
+
+    /**
+     * Retorna el mejor corte del grafo original encontrado al reducirlo: una
+     * cota superior del corte mínimo, que es exacta si isExact() es true.
+     * @return el mejor corte conocido.
+     */
+    public CutResult getBound()
+    {
+        return bound;
+    }
+
+    /**
+     * Retorna el núcleo, o null si isExact() es true.
+     * @return el grafo reducido.
+     */
+    public CompactGraph getKernel()
+    {
+        return kernel;
+    }
+
+    /**
+     * Retorna el vértice del núcleo que contiene al vértice <b>v</b> del grafo
+     * original.
+     * @param v el índice de un vértice original.
+     * @return el índice de su vértice en el núcleo.
+     */
+    public int map(int v)
+    {
+        return map[v];
+    }
+
+    /**
+     * Traduce un lado de un corte del núcleo a los vértices originales, y
+     * retorna ese corte del grafo original, con su valor contado en él.
+     * @param side uno de los lados de un corte del núcleo.
+     * @return el corte correspondiente del grafo original.
+     */
+    public CutResult expand(BitSet side)
+    {
+        BitSet s = new BitSet(map.length);
+        for(int x = 0; x < map.length; x++)
+        {
+            if(side.get(map[x])) { s.set(x); }
+        }
+        return graph.countCut(s);
+    }
+
+    /**
+     * Calcula el corte mínimo del grafo original: si la reducción ya lo dio,
+     * lo retorna; si no, lo busca en el núcleo con
+     * CompactGraph.minimumCutResult(int, int, long) y lo traduce al grafo
+     * original. Se retorna el menor entre ese corte y getBound().
+     * @param iterations la cantidad de repeticiones sobre el núcleo.
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @return el menor corte encontrado.
+     */
+    public CutResult minimumCut(int iterations, int parallelism, long seed)
+    {
+        if(kernel == null) { return bound; }
+
+        CutResult cut = expand(kernel.minimumCutResult(iterations, parallelism, seed).getSide());
+        return cut.getValue() < bound.getValue() ? cut : bound;
+    }
+
+    // toma como mejor corte al supernodo de menor grado, si mejora (con un
+    // único supernodo no hay cortes)...
+    private void improve(int n, int[] degree)
+    {
+        if(n < 2) { return; }
+
+        int u = 0;
+        for(int v = 1; v < n; v++)
+        {
+            if(degree[v] < degree[u]) { u = v; }
+        }
+        if(bound != null && degree[u] >= bound.getValue()) { return; }
+
+        BitSet side = new BitSet(map.length);
+        for(int x = 0; x < map.length; x++)
+        {
+            if(map[x] == u) { side.set(x); }
+        }
+        bound = graph.cutResult(degree[u], side);
+    }
+
+    // une los vértices según joined: renumera los supernodos 0..count-1 (en
+    // map, que lleva cada vértice original a su supernodo) y quita los arcos
+    // que quedan como lazos. Compacta b y e, y retorna la cantidad de arcos
+    // que quedan...
+    static int contract(DisjointSet joined, int m, int[] b, int[] e, int[] map)
+    {
+        int n = joined.size();
+        int[] id = new int[n];
+        Arrays.fill(id, -1);
+        int count = 0;
+        for(int v = 0; v < n; v++)
+        {
+            int r = joined.find(v);
+            if(id[r] == -1) { id[r] = count++; }
+            id[v] = id[r];
+        }
+        for(int x = 0; x < map.length; x++) { map[x] = id[map[x]]; }
+
+        int k = 0;
+        for(int a = 0; a < m; a++)
+        {
+            if(id[b[a]] == id[e[a]]) { continue; }
+            b[k] = id[b[a]];
+            e[k++] = id[e[a]];
+        }
+        return k;
+    }
+
+    // el grado de cada vértice...
+    static int[] degrees(int n, int m, int[] b, int[] e)
+    {
+        int[] degree = new int[n];
+        for(int a = 0; a < m; a++)
+        {
+            degree[b[a]]++;
+            degree[e[a]]++;
+        }
+        return degree;
+    }
+
+    // los arcos de cada vértice en formato CSR: los de v son los índices
+    // slots[offsets[v]] .. slots[offsets[v+1]-1]...
+    static int[] offsets(int n, int[] degree)
+    {
+        int[] offsets = new int[n + 1];
+        for(int v = 0; v < n; v++) { offsets[v + 1] = offsets[v] + degree[v]; }
+        return offsets;
+    }
+
+    static int[] slots(int n, int m, int[] b, int[] e, int[] offsets)
+    {
+        int[] slots = new int[2 * m];
+        int[] fill = Arrays.copyOf(offsets, n);
+        for(int a = 0; a < m; a++)
+        {
+            slots[fill[b[a]]++] = a;
+            slots[fill[e[a]]++] = a;
+        }
+        return slots;
+    }
+
+    // marca los pares de vértices que pueden unirse sin perder el corte
+    // mínimo (salvo que el mejor corte conocido, de valor upper, ya lo sea),
+    // con las pruebas de Padberg-Rinaldi, donde c(u,v) es la cantidad de arcos
+    // entre u y v:
+    //
+    // 1. c(u,v) >= upper: todo corte que separa a u y v vale al menos upper.
+    // 2. 2c(u,v) >= d(u): si un corte menor que upper separa a u de v, pasar u
+    //    al lado de v no lo aumenta (y u no está solo, porque d(u) >= upper).
+    //    Como pasar un vértice puede hacer que otro par quede separado, en
+    //    cada ronda esta prueba se aplica sólo a pares disjuntos...
+    private static DisjointSet padbergRinaldi(int n, int m, int[] b, int[] e, int[] degree, int upper)
+    {
+        DisjointSet joined = new DisjointSet(n);
+        int[] offsets = offsets(n, degree);
+        int[] slots = slots(n, m, b, e, offsets);
+        int[] count = new int[n];
+        boolean[] moved = new boolean[n];
+
+        for(int u = 0; u < n; u++)
+        {
+            for(int i = offsets[u]; i < offsets[u + 1]; i++)
+            {
+                int a = slots[i];
+                count[b[a] == u ? e[a] : b[a]]++;
+            }
+            for(int i = offsets[u]; i < offsets[u + 1]; i++)
+            {
+                int a = slots[i];
+                int v = b[a] == u ? e[a] : b[a];
+                int c = count[v];
+                if(c == 0) { continue; }
+                count[v] = 0;
+                if(v < u) { continue; }
+
+                if(c >= upper) { joined.union(u, v); }
+                else if((2 * c >= degree[u] || 2 * c >= degree[v]) && ! moved[u] && ! moved[v])
+                {
+                    moved[u] = moved[v] = true;
+                    joined.union(u, v);
+                }
+            }
+        }
+        return joined;
+    }
+
+    // se queda con los arcos de los primeros k bosques de una búsqueda de
+    // máxima adyacencia: al recorrer v, el arco hacia w es del bosque r(w),
+    // la cantidad de arcos entre w y los vértices ya recorridos. Cada corte
+    // del grafo resultante vale al menos el mínimo entre su valor original y
+    // k, así que los cortes menores que k se conservan. Compacta b y e, y
+    // retorna la cantidad de arcos que quedan...
+    private static int certificate(int n, int m, int[] b, int[] e, int k)
+    {
+        int[] degree = degrees(n, m, b, e);
+        int[] offsets = offsets(n, degree);
+        int[] slots = slots(n, m, b, e, offsets);
+        int[] forest = new int[m];
+
+        int max = 0;
+        for(int v = 0; v < n; v++) { max = Math.max(max, degree[v]); }
+        BucketQueue queue = new BucketQueue(n, max);
+        for(int v = 0; v < n; v++) { queue.insert(v, 0); }
+        for(int v = queue.pollMax(); v != -1; v = queue.pollMax())
+        {
+            for(int i = offsets[v]; i < offsets[v + 1]; i++)
+            {
+                int a = slots[i];
+                int w = b[a] == v ? e[a] : b[a];
+                if(queue.contains(w)) { forest[a] = queue.increase(w, 1); }
+            }
+        }
+
+        int count = 0;
+        for(int a = 0; a < m; a++)
+        {
+            if(forest[a] > k) { continue; }
+            b[count] = b[a];
+            e[count++] = e[a];
+        }
+        return count;
+    }
+}
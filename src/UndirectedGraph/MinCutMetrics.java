@@ -0,0 +1,324 @@
+package UndirectedGraph;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Lleva las métricas de las ejecuciones de corte mínimo (repeticiones, mejor
+ * corte, tiempos y memoria reservada) y las publica como un MBean con el
+ * nombre NAME, para poder seguir una ejecución larga con jconsole o cualquier
+ * cliente JMX. Hay un único objeto, que se registra la primera vez que se
+ * pide con getInstance(), y lleva los totales de todas las ejecuciones.
+ *
+ * Lo propio de cada ejecución (su mejor corte, sus repeticiones por segundo y
+ * las repeticiones desde su última mejora) se lleva en un objeto Run, que se
+ * publica como un MBean aparte (RUN_NAME seguido de su número) desde
+ * startRun() hasta finishRun(). Así, cuando varias ejecuciones corren a la
+ * vez, los valores de una no pisan a los de otra.
+ *
+ * Los contadores son LongAdder y LongAccumulator, de modo que los hilos que
+ * ejecutan repeticiones no compiten por una misma variable. Cada hilo mide
+ * sus repeticiones con su propio Probe.
+ *
+ * @author paula
+ */
+public class MinCutMetrics implements MinCutMetricsMBean
+{
+    /** El nombre con el que se registra el MBean. */
+    public static final String NAME = "MinCut:type=Metrics";
+
+    /** El prefijo del nombre con el que se registra cada ejecución. */
+    public static final String RUN_NAME = "MinCut:type=Run,id=";
+
+    private static MinCutMetrics instance;
+
+    // null si la JVM no permite medir la memoria reservada por cada hilo...
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+    private final LongAdder trials = new LongAdder();
+    private final LongAdder trialNanos = new LongAdder();
+    private final LongAdder allocated = new LongAdder();
+    private final AtomicLong lastLoadNanos = new AtomicLong();
+
+    // las ejecuciones en curso, y la cantidad de ejecuciones iniciadas...
+    private final Set<Run> active = ConcurrentHashMap.newKeySet();
+    private final AtomicLong runs = new AtomicLong();
+
+    /**
+     * Mide las repeticiones y las cargas de un hilo. Un Probe es usado por un
+     * único hilo: se invoca a start() antes de cada repetición (o carga) y a
+     * trialFinished() (o graphLoaded()) al terminarla. Un Probe de cargas
+     * (creado con probe()) no pertenece a ninguna ejecución.
+     */
+    public final class Probe
+    {
+        private final Run owner;
+        private long nanos;
+        private long bytes;
+
+        private Probe(Run owner)
+        {
+            this.owner = owner;
+        }
+
+        /**
+         * Comienza a medir una repetición o una carga.
+         */
+        public void start()
+        {
+            bytes = allocatedBytes();
+            nanos = System.nanoTime();
+        }
+
+        /**
+         * Registra una repetición terminada que encontró un corte de valor
+         * <b>cut</b>.
+         * @param cut el corte encontrado.
+         */
+        public void trialFinished(int cut)
+        {
+            trialNanos.add(System.nanoTime() - nanos);
+            allocated.add(allocatedBytes() - bytes);
+            trials.increment();
+            if(owner != null) { owner.trialFinished(cut); }
+        }
+
+        /**
+         * Registra la carga de un grafo.
+         */
+        public void graphLoaded()
+        {
+            lastLoadNanos.set(System.nanoTime() - nanos);
+            allocated.add(allocatedBytes() - bytes);
+        }
+    }
+
+    /**
+     * Las métricas de una ejecución: su comienzo, sus repeticiones y su mejor
+     * corte. Se crea con startRun(), y sus repeticiones se miden con los
+     * Probe que crea probe(Run).
+     */
+    public static final class Run implements RunMetricsMBean
+    {
+        private final long id;
+        private final long iterations;
+        private final long start = System.nanoTime();
+        private final LongAdder trials = new LongAdder();
+        private final LongAccumulator best = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private volatile long improvedAt;
+
+        private Run(long id, long iterations)
+        {
+            this.id = id;
+            this.iterations = iterations;
+        }
+
+        private void trialFinished(int cut)
+        {
+            trials.increment();
+            if(cut < best.get())
+            {
+                best.accumulate(cut);
+                improvedAt = trials.sum();
+            }
+        }
+
+        /**
+         * Retorna el número de la ejecución, que forma su nombre JMX.
+         * @return el número de la ejecución.
+         */
+        public long getId()
+        {
+            return id;
+        }
+
+        @Override
+        public long getIterations()
+        {
+            return iterations;
+        }
+
+        @Override
+        public long getTrialsCompleted()
+        {
+            return trials.sum();
+        }
+
+        @Override
+        public double getTrialsPerSecond()
+        {
+            double seconds = (System.nanoTime() - start) / 1e9;
+            return seconds > 0 ? trials.sum() / seconds : 0;
+        }
+
+        @Override
+        public int getBestCut()
+        {
+            long b = best.get();
+            return b == Long.MAX_VALUE ? -1 : (int) b;
+        }
+
+        @Override
+        public long getTrialsSinceImprovement()
+        {
+            return trials.sum() - improvedAt;
+        }
+
+        @Override
+        public long getElapsedMillis()
+        {
+            return (System.nanoTime() - start) / 1000000;
+        }
+    }
+
+    private MinCutMetrics()
+    {
+    }
+
+    /**
+     * Retorna el objeto de métricas, registrándolo como MBean la primera vez.
+     * @return las métricas.
+     */
+    public static synchronized MinCutMetrics getInstance()
+    {
+        if(instance == null)
+        {
+            instance = new MinCutMetrics();
+            try
+            {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(instance, new ObjectName(NAME));
+            }
+            catch(JMException e)
+            {
+                // sin JMX las métricas se siguen llevando, sólo que no se publican...
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Indica que comienza una nueva ejecución de corte mínimo, de
+     * <b>iterations</b> repeticiones, y la publica como MBean hasta que se
+     * invoque a finishRun().
+     * @param iterations la cantidad de repeticiones previstas.
+     * @return la ejecución.
+     */
+    public Run startRun(long iterations)
+    {
+        Run run = new Run(runs.incrementAndGet(), iterations);
+        active.add(run);
+        try
+        {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new StandardMBean(run, RunMetricsMBean.class), new ObjectName(RUN_NAME + run.id));
+        }
+        catch(JMException e)
+        {
+            // sin JMX la ejecución se sigue midiendo, sólo que no se publica...
+        }
+        return run;
+    }
+
+    /**
+     * Indica que terminó la ejecución <b>run</b>, y deja de publicarla.
+     * @param run la ejecución.
+     */
+    public void finishRun(Run run)
+    {
+        active.remove(run);
+        try
+        {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(RUN_NAME + run.id);
+            if(server.isRegistered(name)) { server.unregisterMBean(name); }
+        }
+        catch(JMException e)
+        {
+            // no estaba publicada...
+        }
+    }
+
+    /**
+     * Crea un Probe para un hilo de la ejecución <b>run</b>.
+     * @param run la ejecución.
+     * @return el Probe creado.
+     */
+    public Probe probe(Run run)
+    {
+        return new Probe(run);
+    }
+
+    /**
+     * Crea un Probe para medir cargas de grafos, fuera de toda ejecución.
+     * @return el Probe creado.
+     */
+    public Probe probe()
+    {
+        return new Probe(null);
+    }
+
+    @Override
+    public long getTrialsCompleted()
+    {
+        return trials.sum();
+    }
+
+    @Override
+    public int getActiveRuns()
+    {
+        return active.size();
+    }
+
+    @Override
+    public double getAverageContractionMicros()
+    {
+        long count = trials.sum();
+        return count == 0 ? 0 : trialNanos.sum() / 1e3 / count;
+    }
+
+    @Override
+    public long getLastLoadMillis()
+    {
+        return lastLoadNanos.get() / 1000000;
+    }
+
+    @Override
+    public long getAllocatedBytes()
+    {
+        return THREADS == null ? -1 : allocated.sum();
+    }
+
+    @Override
+    public void reset()
+    {
+        trials.reset();
+        trialNanos.reset();
+        allocated.reset();
+        lastLoadNanos.set(0);
+    }
+
+    // los bytes reservados por el hilo actual, o 0 si no se pueden medir...
+    private static long allocatedBytes()
+    {
+        return THREADS == null ? 0 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean()
+    {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if(bean instanceof com.sun.management.ThreadMXBean)
+        {
+            com.sun.management.ThreadMXBean b = (com.sun.management.ThreadMXBean) bean;
+            if(b.isThreadAllocatedMemorySupported() && b.isThreadAllocatedMemoryEnabled()) { return b; }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,51 @@
+package UndirectedGraph;
+
+/**
+ * La interfaz de administración (JMX) de MinCutMetrics. Todos los valores son
+ * totales de todas las ejecuciones, desde que se creó (o se reinició) el 
+ * objeto; los de cada ejecución en curso se publican aparte (ver 
+ * RunMetricsMBean).
+ *
+ * @author paula
+ */
+public interface MinCutMetricsMBean
+{
+    /**
+     * Retorna la cantidad total de repeticiones terminadas.
+     * @return las repeticiones terminadas.
+     */
+    long getTrialsCompleted();
+
+    /**
+     * Retorna la cantidad de ejecuciones en curso, cada una publicada como un
+     * RunMetricsMBean.
+     * @return las ejecuciones en curso.
+     */
+    int getActiveRuns();
+
+    /**
+     * Retorna el tiempo promedio de una repetición (una contracción completa
+     * del grafo hasta dos supernodos), en microsegundos.
+     * @return el tiempo promedio de contracción.
+     */
+    double getAverageContractionMicros();
+
+    /**
+     * Retorna el tiempo de la última carga de un grafo, en milisegundos.
+     * @return el tiempo de carga.
+     */
+    long getLastLoadMillis();
+
+    /**
+     * Retorna la cantidad total de bytes reservados en el heap por las
+     * repeticiones y las cargas de grafos, o -1 si la JVM no lo permite medir.
+     * @return los bytes reservados.
+     */
+    long getAllocatedBytes();
+
+    /**
+     * Pone todos los contadores totales en cero (no afecta a las ejecuciones
+     * en curso).
+     */
+    void reset();
+}
@@ -0,0 +1,165 @@
+package UndirectedGraph;
+
+import java.util.BitSet;
+
+/**
+ * Calcula en forma exacta y determinística el corte mínimo de un CompactGraph
+ * no ponderado (un multigrafo: cada arco cuenta 1, y los pesos no se usan)
+ * con el algoritmo de Nagamochi-Ibaraki. Se mantiene una cota superior del
+ * corte, con un corte que la alcanza, y en cada ronda:
+ *
+ * - el grado de cada supernodo es un corte candidato.
+ * - se recorren los supernodos en orden de máxima adyacencia: la clave r(w)
+ *   de un supernodo es la cantidad de arcos entre w y los ya recorridos, y se
+ *   recorre siempre uno de clave máxima. Cada prefijo del recorrido es un
+ *   corte candidato, cuyo valor se actualiza en O(1) por supernodo.
+ * - al recorrer v, si r(w) llega a la cota para un vecino w, la conectividad
+ *   entre v y w es al menos la cota: ningún corte menor los separa, así que
+ *   se unen. También se unen los dos últimos supernodos recorridos (como en
+ *   Stoer-Wagner), de modo que cada ronda une al menos un par.
+ *
+ * Como las claves son enteros que sólo aumentan de a uno, la cola es una
+ * BucketQueue, y cada ronda cuesta O(n + m) (Stoer-Wagner necesita un heap
+ * y cuesta O(m log n) por fase). En la práctica cada ronda une muchos pares,
+ * y hacen falta muchas menos rondas que las n - 1 fases de Stoer-Wagner.
+ *
+ * @author paula
+ */
+public class NagamochiIbaraki
+{
+    // el grafo a cortar...
+    private final CompactGraph graph;
+
+    /**
+     * Crea un NagamochiIbaraki para calcular el corte mínimo de <b>g</b>.
+     * @param g el grafo a cortar.
+     */
+    public NagamochiIbaraki(CompactGraph g)
+    {
+        if(g == null) { throw new NullPointerException("Error: grafo no definido..."); }
+        this.graph = g;
+    }
+
+    /**
+     * Retorna el valor del corte mínimo exacto del grafo: la menor cantidad de
+     * arcos que hay que quitar para desconectarlo. Si el grafo tiene menos de
+     * dos vértices, retorna 0.
+     * @return el corte mínimo del grafo.
+     */
+    public int minimumCut()
+    {
+        return minimumCutResult().getValue();
+    }
+
+    /**
+     * Retorna el corte mínimo exacto del grafo, con uno de sus lados y los
+     * arcos que lo cruzan. Si el grafo tiene menos de dos vértices, retorna un
+     * corte de valor 0 con el primer lado vacío.
+     * @return el corte mínimo del grafo.
+     */
+    public CutResult minimumCutResult()
+    {
+        int n = graph.countNodes();
+        if(n < 2) { return graph.cutResult(0, new BitSet()); }
+
+        // los arcos del grafo actual, sin lazos, y el supernodo de cada
+        // vértice original...
+        int[] map = CompactGraph.identity(n);
+        int m = 0;
+        int[] b = new int[graph.countEdges()], e = new int[graph.countEdges()];
+        for(int a = 0; a < graph.countEdges(); a++)
+        {
+            if(graph.begin(a) == graph.end(a)) { continue; }
+            b[m] = graph.begin(a);
+            e[m++] = graph.end(a);
+        }
+
+        int best = Integer.MAX_VALUE;
+        BitSet side = null;
+        while(n > 1)
+        {
+            int[] degree = Kernel.degrees(n, m, b, e);
+            int u = 0;
+            for(int v = 1; v < n; v++)
+            {
+                if(degree[v] < degree[u]) { u = v; }
+            }
+            if(degree[u] < best)
+            {
+                best = degree[u];
+                side = members(map, u);
+            }
+
+            int[] offsets = Kernel.offsets(n, degree);
+            int[] slots = Kernel.slots(n, m, b, e, offsets);
+            int[] key = new int[n];
+            int[] position = new int[n];
+            BucketQueue queue = new BucketQueue(n, degree[maximum(degree)]);
+            for(int v = 0; v < n; v++) { queue.insert(v, 0); }
+
+            DisjointSet joined = new DisjointSet(n);
+            int prefix = -1, cut = 0, previous = -1, last = -1;
+            for(int i = 0; i < n; i++)
+            {
+                int v = queue.pollMax();
+                position[v] = i;
+
+                // el corte entre los recorridos y el resto...
+                cut += degree[v] - 2 * key[v];
+                if(i < n - 1 && cut < best)
+                {
+                    best = cut;
+                    prefix = i;
+                }
+
+                for(int j = offsets[v]; j < offsets[v + 1]; j++)
+                {
+                    int a = slots[j];
+                    int w = b[a] == v ? e[a] : b[a];
+                    if(! queue.contains(w)) { continue; }
+
+                    key[w] = queue.increase(w, 1);
+                    if(key[w] >= best) { joined.union(v, w); }
+                }
+                previous = last;
+                last = v;
+            }
+            joined.union(previous, last);
+
+            if(prefix >= 0)
+            {
+                side = new BitSet(map.length);
+                for(int x = 0; x < map.length; x++)
+                {
+                    if(position[map[x]] <= prefix) { side.set(x); }
+                }
+            }
+
+            m = Kernel.contract(joined, m, b, e, map);
+            n = joined.count();
+        }
+        return graph.cutResult(best, side);
+    }
+
+    // los vértices originales del supernodo u...
+    private static BitSet members(int[] map, int u)
+    {
+        BitSet side = new BitSet(map.length);
+        for(int x = 0; x < map.length; x++)
+        {
+            if(map[x] == u) { side.set(x); }
+        }
+        return side;
+    }
+
+    // el índice de un valor máximo de values...
+    private static int maximum(int[] values)
+    {
+        int max = 0;
+        for(int i = 1; i < values.length; i++)
+        {
+            if(values[i] > values[max]) { max = i; }
+        }
+        return max;
+    }
+}
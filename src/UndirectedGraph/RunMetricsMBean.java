@@ -0,0 +1,53 @@
+package UndirectedGraph;
+
+/**
+ * La interfaz de administración (JMX) de una ejecución de corte mínimo en
+ * curso (ver MinCutMetrics.startRun()). Cada ejecución se publica con su
+ * propio nombre, MinCutMetrics.RUN_NAME seguido de su número, mientras dura:
+ * cuando varias ejecuciones corren a la vez (por ejemplo, en BatchRunner),
+ * cada una se sigue por separado.
+ *
+ * @author paula
+ */
+public interface RunMetricsMBean
+{
+    /**
+     * Retorna la cantidad de repeticiones previstas de la ejecución.
+     * @return las repeticiones previstas.
+     */
+    long getIterations();
+
+    /**
+     * Retorna la cantidad de repeticiones terminadas de la ejecución.
+     * @return las repeticiones terminadas.
+     */
+    long getTrialsCompleted();
+
+    /**
+     * Retorna las repeticiones por segundo de la ejecución.
+     * @return las repeticiones por segundo.
+     */
+    double getTrialsPerSecond();
+
+    /**
+     * Retorna el mejor corte de la ejecución, o -1 si todavía no terminó
+     * ninguna repetición.
+     * @return el mejor corte encontrado.
+     */
+    int getBestCut();
+
+    /**
+     * Retorna la cantidad de repeticiones de la ejecución que terminaron desde
+     * la última vez que mejoró el mejor corte. Si crece mucho, las
+     * repeticiones adicionales ya no están aportando.
+     * @return las repeticiones desde la última mejora.
+     */
+    long getTrialsSinceImprovement();
+
+    /**
+     * Retorna el tiempo transcurrido desde el comienzo de la ejecución, en
+     * milisegundos.
+     * @return el tiempo transcurrido.
+     */
+    long getElapsedMillis();
+}
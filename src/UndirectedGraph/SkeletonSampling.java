@@ -0,0 +1,130 @@
+package UndirectedGraph;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Calcula un corte mínimo aproximado de un CompactGraph no ponderado (cada
+ * arco cuenta 1, como en minimumCut()) con el muestreo de Karger: se arma un
+ * esqueleto con cada arco tomado al azar con probabilidad p, se calcula su
+ * corte mínimo exacto con NagamochiIbaraki, y se lo divide por p. Por el
+ * teorema de muestreo de Karger, si
+ *
+ *     p >= 3 (ln(1/δ) + 2 ln n) / (ε² λ)
+ *
+ * con λ el corte mínimo, con probabilidad al menos 1 - δ todo corte del
+ * esqueleto vale entre (1 - ε) y (1 + ε) veces p por su valor en el grafo. El
+ * esqueleto tiene unos p·m arcos, así que cuanto mayor es λ, menos arcos hacen
+ * falta: con ε chico o λ chico la muestra es el grafo entero, y el resultado
+ * es exacto.
+ *
+ * Como λ no se conoce, se estima: se empieza por el grado mínimo (una cota
+ * superior) y se lo divide por dos hasta que el esqueleto confirma la
+ * estimación (su corte dividido p es al menos (1 - ε) veces la estimación).
+ * El lado del corte del esqueleto se cuenta en el grafo original, así que el
+ * valor retornado es siempre el de un corte real (una cota superior segura), y
+ * con probabilidad 1 - δ vale a lo sumo (1 + ε) / (1 - ε) veces el mínimo.
+ *
+ * @author paula
+ */
+public class SkeletonSampling
+{
+    // el grafo a cortar...
+    private final CompactGraph graph;
+
+    // la precisión y la probabilidad de falla...
+    private final double epsilon, failureProbability;
+
+    /**
+     * Crea un SkeletonSampling para aproximar el corte mínimo de <b>g</b>.
+     * @param g el grafo a cortar.
+     * @param epsilon la precisión del muestreo, en (0, 1): menor es más
+     * preciso y más lento (el esqueleto crece como 1/ε²).
+     * @param failureProbability la probabilidad de falla aceptada, en (0, 1).
+     * @throws IllegalArgumentException si epsilon o failureProbability no
+     * están en (0, 1).
+     */
+    public SkeletonSampling(CompactGraph g, double epsilon, double failureProbability)
+    {
+        if(g == null) { throw new NullPointerException("Error: grafo no definido..."); }
+        if(!(epsilon > 0 && epsilon < 1)) { throw new IllegalArgumentException("Error: la precisión debe estar en (0, 1): " + epsilon); }
+        if(!(failureProbability > 0 && failureProbability < 1)) { throw new IllegalArgumentException("Error: la probabilidad de falla debe estar en (0, 1): " + failureProbability); }
+        this.graph = g;
+        this.epsilon = epsilon;
+        this.failureProbability = failureProbability;
+    }
+
+    /**
+     * Calcula el corte mínimo aproximado, muestreando con un generador creado
+     * a partir de <b>seed</b> (la misma semilla da el mismo resultado). Si el
+     * grafo no es conexo o tiene un puente, el resultado es exacto y no se
+     * muestrea.
+     * @param seed la semilla del muestreo.
+     * @return el corte encontrado, con su cota inferior y su confianza.
+     */
+    public ApproximateCut minimumCut(long seed)
+    {
+        CutResult trivial = graph.trivialCut();
+        if(trivial != null) { return exact(trivial); }
+        int n = graph.countNodes();
+
+        // la estimación se divide por dos en cada ronda, así que la
+        // probabilidad de falla se reparte entre todas las rondas posibles...
+        int upper = graph.minimumDegree();
+        int rounds = 32 - Integer.numberOfLeadingZeros(upper);
+        double delta = failureProbability / rounds;
+        double threshold = 3 * (Math.log(1 / delta) + 2 * Math.log(n)) / (epsilon * epsilon);
+
+        SplittableRandom random = new SplittableRandom(seed);
+        for(int guess = upper; guess >= 2; guess /= 2)
+        {
+            double p = threshold / guess;
+            if(p >= 1) { break; }
+
+            CutResult sampled = new NagamochiIbaraki(sample(p, random)).minimumCutResult();
+            double estimate = sampled.getValue() / p;
+            if(estimate < (1 - epsilon) * guess) { continue; }
+
+            CutResult cut = graph.countCut(sampled.getSide());
+            double lower = Math.min(estimate / (1 + epsilon), cut.getValue());
+            return new ApproximateCut(cut, estimate, lower, 1 - failureProbability, p);
+        }
+        return exact(new NagamochiIbaraki(graph).minimumCutResult());
+    }
+
+    // un resultado sin muestreo...
+    private static ApproximateCut exact(CutResult cut)
+    {
+        return new ApproximateCut(cut, cut.getValue(), cut.getValue(), 1, 1);
+    }
+
+    // el esqueleto: cada arco (salvo los lazos) con probabilidad p. En lugar
+    // de sortear cada arco, se sortea la distancia al siguiente arco tomado
+    // (una variable geométrica), así que el costo es proporcional a p·m...
+    private CompactGraph sample(double p, SplittableRandom random)
+    {
+        int m = graph.countEdges();
+        int[] b = new int[(int) Math.min(m, p * m * 1.25 + 16)];
+        int[] e = new int[b.length];
+        int count = 0;
+
+        double log = Math.log1p(-p);
+        double a = -1;
+        while(true)
+        {
+            a += 1 + Math.floor(Math.log(1 - random.nextDouble()) / log);
+            if(a >= m) { break; }
+
+            int u = graph.begin((int) a), v = graph.end((int) a);
+            if(u == v) { continue; }
+            if(count == b.length)
+            {
+                b = Arrays.copyOf(b, 2 * count);
+                e = Arrays.copyOf(e, 2 * count);
+            }
+            b[count] = u;
+            e[count++] = v;
+        }
+        return new CompactGraph(graph.countNodes(), count, b, e);
+    }
+}
@@ -0,0 +1,224 @@
+package UndirectedGraph;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Calcula en forma exacta y determinística el corte mínimo de un CompactGraph
+ * ponderado con el algoritmo de Stoer-Wagner. Cada fase recorre los supernodos
+ * en orden de máxima adyacencia (usando un heap indexado con aumento de
+ * clave), toma como candidato el corte que separa al último supernodo del
+ * resto, y luego une los dos últimos. Si el grafo no es ponderado cada arco
+ * pesa 1, de modo que el resultado coincide con el de minimumCut().
+ *
+ * Las listas de adyacencia de los supernodos se unen en tiempo constante
+ * (enlazándolas), y los extremos de cada arco se resuelven con un DisjointSet,
+ * por lo que cada fase cuesta O(m log n) y el total O(n m log n) sin crear
+ * objetos por fase.
+ *
+ * @author paula
+ */
+public class StoerWagner
+{
+    // el grafo a cortar...
+    private final CompactGraph graph;
+
+    /**
+     * Crea un StoerWagner para calcular el corte mínimo de <b>g</b>.
+     * @param g el grafo a cortar.
+     */
+    public StoerWagner(CompactGraph g)
+    {
+        if(g == null) { throw new NullPointerException("Error: grafo no definido..."); }
+        this.graph = g;
+    }
+
+    /**
+     * Retorna el corte mínimo exacto del grafo, con uno de sus lados y los
+     * arcos que lo cruzan. Si el grafo tiene menos de dos vértices, retorna un
+     * corte de valor 0 con el primer lado vacío.
+     * @return el corte mínimo del grafo.
+     * @throws ArithmeticException si el peso del corte no entra en un int.
+     */
+    public CutResult minimumCut()
+    {
+        int n = graph.countNodes();
+        int m = graph.countEdges();
+        if(n < 2) { return graph.cutResult(0, new BitSet()); }
+
+        // listas de adyacencia enlazadas: el "slot" 2e va de begin(e) a end(e),
+        // y el 2e+1 al revés...
+        int[] head = new int[n];
+        int[] tail = new int[n];
+        int[] next = new int[2 * m];
+        Arrays.fill(head, -1);
+        Arrays.fill(tail, -1);
+        for(int s = 0; s < 2 * m; s++)
+        {
+            int v = (s & 1) == 0 ? graph.begin(s >> 1) : graph.end(s >> 1);
+            next[s] = -1;
+            if(head[v] == -1) { head[v] = s; } else { next[tail[v]] = s; }
+            tail[v] = s;
+        }
+
+        // los vértices originales de cada supernodo, también enlazados...
+        int[] firstMember = new int[n];
+        int[] lastMember = new int[n];
+        int[] nextMember = new int[n];
+        for(int v = 0; v < n; v++)
+        {
+            firstMember[v] = v;
+            lastMember[v] = v;
+            nextMember[v] = -1;
+        }
+
+        // los supernodos activos...
+        int[] active = new int[n];
+        for(int v = 0; v < n; v++) { active[v] = v; }
+        int count = n;
+
+        DisjointSet sets = new DisjointSet(n);
+        IndexedHeap heap = new IndexedHeap(n);
+        long best = Long.MAX_VALUE;
+        BitSet side = new BitSet(n);
+
+        while(count > 1)
+        {
+            for(int i = 0; i < count; i++) { heap.insert(active[i], 0); }
+
+            int s = -1, t = -1;
+            long cutOfPhase = 0;
+            while(! heap.isEmpty())
+            {
+                cutOfPhase = heap.maxKey();
+                int u = heap.removeMax();
+                s = t;
+                t = u;
+                for(int slot = head[u]; slot != -1; slot = next[slot])
+                {
+                    int e = slot >> 1;
+                    int w = sets.find((slot & 1) == 0 ? graph.end(e) : graph.begin(e));
+                    if(heap.contains(w)) { heap.increase(w, graph.weight(e)); }
+                }
+            }
+
+            if(cutOfPhase < best)
+            {
+                best = cutOfPhase;
+                side.clear();
+                for(int v = firstMember[t]; v != -1; v = nextMember[v]) { side.set(v); }
+            }
+
+            // unir t con s...
+            sets.union(s, t);
+            int r = sets.find(s);
+            int o = r == s ? t : s;
+            if(head[o] != -1)
+            {
+                if(head[r] == -1) { head[r] = head[o]; } else { next[tail[r]] = head[o]; }
+                tail[r] = tail[o];
+            }
+            nextMember[lastMember[r]] = firstMember[o];
+            lastMember[r] = lastMember[o];
+
+            for(int i = 0; i < count; i++)
+            {
+                if(active[i] == o) { active[i] = active[--count]; break; }
+            }
+        }
+
+        return graph.cutResult(Math.toIntExact(best), side);
+    }
+
+    /*
+     * Un heap de máximo sobre los enteros 0..n-1 con claves long, que permite
+     * aumentar la clave de un elemento en O(log n) gracias a que registra la
+     * posición de cada elemento en el heap.
+     */
+    private static class IndexedHeap
+    {
+        private final int[] heap;
+        private final int[] position;
+        private final long[] key;
+        private int size;
+
+        IndexedHeap(int n)
+        {
+            heap = new int[n];
+            position = new int[n];
+            key = new long[n];
+            Arrays.fill(position, -1);
+        }
+
+        boolean isEmpty()
+        {
+            return size == 0;
+        }
+
+        boolean contains(int v)
+        {
+            return position[v] != -1;
+        }
+
+        long maxKey()
+        {
+            return key[heap[0]];
+        }
+
+        void insert(int v, long k)
+        {
+            key[v] = k;
+            heap[size] = v;
+            position[v] = size;
+            up(size++);
+        }
+
+        void increase(int v, long delta)
+        {
+            key[v] += delta;
+            up(position[v]);
+        }
+
+        int removeMax()
+        {
+            int v = heap[0];
+            position[v] = -1;
+            if(--size > 0)
+            {
+                heap[0] = heap[size];
+                position[heap[0]] = 0;
+                down(0);
+            }
+            return v;
+        }
+
+        private void up(int i)
+        {
+            int v = heap[i];
+            while(i > 0 && key[heap[(i - 1) / 2]] < key[v])
+            {
+                heap[i] = heap[(i - 1) / 2];
+                position[heap[i]] = i;
+                i = (i - 1) / 2;
+            }
+            heap[i] = v;
+            position[v] = i;
+        }
+
+        private void down(int i)
+        {
+            int v = heap[i];
+            while(2 * i + 1 < size)
+            {
+                int c = 2 * i + 1;
+                if(c + 1 < size && key[heap[c + 1]] > key[heap[c]]) { c++; }
+                if(key[heap[c]] <= key[v]) { break; }
+                heap[i] = heap[c];
+                position[heap[i]] = i;
+                i = c;
+            }
+            heap[i] = v;
+            position[v] = i;
+        }
+    }
+}
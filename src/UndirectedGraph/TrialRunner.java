@@ -0,0 +1,466 @@
+package UndirectedGraph;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta las repeticiones (trials) de un algoritmo aleatorio de corte mínimo
+ * repartidas entre varios hilos. Cada hilo obtiene su propio objeto Trial (con
+ * su propia copia del grafo o sus propios arreglos auxiliares), y cada trial
+ * usa su propio SplittableRandom, de modo que los hilos no comparten ningún
+ * generador. Los trials se agrupan en bloques de BLOCK trials consecutivos:
+ * el generador del bloque b es el b-ésimo split() de un generador creado con
+ * la semilla general, y los de sus trials son los sucesivos split() del de su
+ * bloque, así que el generador de cada trial depende sólo de la semilla
+ * general y del número de trial, y el resultado para una semilla es el mismo
+ * sin importar la cantidad de hilos. Los hilos toman los trials en tramos
+ * consecutivos dentro de un bloque, de BLOCK trials o menos si hay pocos por
+ * hilo (ver chunk()), de modo que pocas repeticiones caras también se
+ * reparten entre todos los hilos. El mejor corte se comparte entre los hilos
+ * con un AtomicInteger, sin usar locks.
+ *
+ * Si el hilo que invoca una ejecución se interrumpe, las repeticiones se
+ * detienen y la ejecución lanza CancellationException, con la interrupción
+ * todavía marcada: el mejor corte hasta ese momento no se retorna, porque no
+ * es el de la ejecución completa. Con un Checkpoint, el avance queda guardado
+ * y la ejecución se puede retomar.
+ *
+ * @author paula
+ */
+public class TrialRunner
+{
+    /**
+     * Una repetición de un algoritmo aleatorio de corte mínimo. Un objeto Trial
+     * es usado por un único hilo.
+     */
+    public interface Trial
+    {
+        /**
+         * Ejecuta una repetición usando el generador <b>random</b>.
+         * @param random el generador de números aleatorios de la repetición.
+         * @return el corte encontrado en la repetición.
+         */
+        int run(SplittableRandom random);
+    }
+
+    /**
+     * Una repetición que, además del valor del corte, puede construir el corte
+     * completo que encontró. El TrialRunner invoca a witness() sólo cuando la
+     * repetición mejora el mejor corte conocido, de modo que las demás 
+     * repeticiones no pagan el costo de construirlo.
+     */
+    public interface WitnessTrial extends Trial
+    {
+        /**
+         * Retorna el corte encontrado por la última invocación de run().
+         * @param value el valor retornado por run().
+         * @return el corte encontrado.
+         */
+        CutResult witness(int value);
+    }
+
+    // la cantidad de hilos a usar...
+    private final int parallelism;
+
+    /**
+     * La cantidad de trials de cada bloque. Un rango de trials que empieza en
+     * un múltiplo de BLOCK (ver runWithWitness(int, int, CutResult, int,
+     * Supplier)) usa los mismos generadores sin importar en qué proceso se
+     * ejecute.
+     */
+    public static final int BLOCK = 64;
+
+    // la semilla general de la que se derivan los generadores de cada trial...
+    private final long seed;
+
+    /**
+     * Crea un TrialRunner que usará <b>parallelism</b> hilos, y derivará la
+     * semilla de cada repetición a partir de <b>seed</b>.
+     * @param parallelism la cantidad de hilos (al menos 1).
+     * @param seed la semilla general.
+     * @throws IllegalArgumentException si parallelism es menor a 1.
+     */
+    public TrialRunner(int parallelism, long seed)
+    {
+        if(parallelism < 1) { throw new IllegalArgumentException("Error: la cantidad de hilos debe ser al menos 1..."); }
+        this.parallelism = parallelism;
+        this.seed = seed;
+    }
+
+    /**
+     * Ejecuta <b>iterations</b> repeticiones y retorna el menor corte
+     * encontrado, o <b>initial</b> si ninguna repetición encontró un corte
+     * menor. Cada hilo crea su Trial invocando a factory.get().
+     * @param iterations la cantidad de repeticiones.
+     * @param initial el valor a retornar si no se encuentra un corte menor.
+     * @param factory crea el Trial de cada hilo.
+     * @return el menor corte encontrado.
+     * @throws CancellationException si el hilo se interrumpe antes de
+     * terminar.
+     */
+    public int run(int iterations, int initial, Supplier<? extends Trial> factory)
+    {
+        return run(iterations, initial, Integer.MIN_VALUE, factory);
+    }
+
+    /**
+     * Ejecuta hasta <b>iterations</b> repeticiones igual que 
+     * run(int, int, Supplier), pero termina antes si se encuentra un corte 
+     * menor o igual a <b>target</b> (por ejemplo, una cota inferior ya 
+     * demostrada del corte mínimo, que no puede ser mejorada). Si initial ya 
+     * es menor o igual a target, no se ejecuta ninguna repetición.
+     * @param iterations la cantidad máxima de repeticiones.
+     * @param initial el valor a retornar si no se encuentra un corte menor.
+     * @param target el corte con el que se puede terminar.
+     * @param factory crea el Trial de cada hilo.
+     * @return el menor corte encontrado.
+     * @throws CancellationException si el hilo se interrumpe antes de
+     * terminar.
+     */
+    public int run(int iterations, int initial, int target, Supplier<? extends Trial> factory)
+    {
+        if(initial <= target) { return initial; }
+
+        AtomicInteger best = new AtomicInteger(initial);
+        execute(0, iterations, target, factory, best, null, null);
+        return best.get();
+    }
+
+    /**
+     * Ejecuta hasta <b>iterations</b> repeticiones igual que 
+     * run(int, int, int, Supplier), pero retorna el mejor corte completo en
+     * lugar de su valor. Entre dos repeticiones que encuentran cortes del 
+     * mismo valor se queda con la de menor número, de modo que el corte 
+     * retornado tampoco depende de la cantidad de hilos. Esto vale también
+     * si se termina antes por llegar a target, siempre que target sea una
+     * cota inferior del corte: las repeticiones anteriores a la primera que
+     * lo alcanza terminan todas, aunque estén en otros hilos.
+     * @param iterations la cantidad máxima de repeticiones.
+     * @param initial el corte a retornar si no se encuentra uno menor.
+     * @param target el corte con el que se puede terminar.
+     * @param factory crea el WitnessTrial de cada hilo.
+     * @return el menor corte encontrado.
+     * @throws CancellationException si el hilo se interrumpe antes de
+     * terminar.
+     */
+    public CutResult runWithWitness(int iterations, CutResult initial, int target, Supplier<? extends WitnessTrial> factory)
+    {
+        return runWithWitness(0, iterations, initial, target, factory);
+    }
+
+    /**
+     * Ejecuta sólo las repeticiones <b>first</b>..<b>last</b>-1 de 
+     * runWithWitness(int, CutResult, int, Supplier), cada una con el mismo 
+     * generador que tendría allí. Así, las repeticiones de una ejecución 
+     * pueden repartirse en rangos entre varios procesos: el mejor de los
+     * cortes de los rangos (y, entre cortes del mismo valor, el del rango de 
+     * menor first) es el que retornaría una única ejecución.
+     * @param first la primera repetición, múltiplo de BLOCK.
+     * @param last la repetición siguiente a la última.
+     * @param initial el corte a retornar si no se encuentra uno menor.
+     * @param target el corte con el que se puede terminar.
+     * @param factory crea el WitnessTrial de cada hilo.
+     * @return el menor corte encontrado.
+     * @throws IllegalArgumentException si first no es un múltiplo de BLOCK.
+     * @throws CancellationException si el hilo se interrumpe antes de
+     * terminar.
+     */
+    public CutResult runWithWitness(int first, int last, CutResult initial, int target, Supplier<? extends WitnessTrial> factory)
+    {
+        if(first < 0 || first % BLOCK != 0) { throw new IllegalArgumentException("Error: el rango debe empezar en un múltiplo de " + BLOCK + "..."); }
+        if(initial.getValue() <= target) { return initial; }
+
+        AtomicInteger best = new AtomicInteger(initial.getValue());
+        AtomicReference<Record> record = new AtomicReference<>(new Record(-1, initial));
+        execute(first, last, target, factory, best, record, null);
+        return record.get().cut;
+    }
+
+    /**
+     * Ejecuta hasta <b>iterations</b> repeticiones igual que 
+     * runWithWitness(int, CutResult, int, Supplier), guardando el avance en
+     * <b>checkpoint</b> (ver la clase Checkpoint) al terminar cada bloque. Si
+     * el checkpoint ya tiene el avance de esta misma ejecución (igual semilla,
+     * cantidad de repeticiones y grafo <b>graph</b>, el de las repeticiones),
+     * se retoma desde su marca y su mejor corte:
+     * el resultado es el mismo que el de una ejecución sin interrupciones.
+     * Las escrituras se hacen en otro hilo, sin detener a los de las 
+     * repeticiones; al terminar se escribe el estado final.
+     * @param graph el grafo de las repeticiones, que identifica la ejecución.
+     * @param iterations la cantidad máxima de repeticiones.
+     * @param initial el corte a retornar si no se encuentra uno menor.
+     * @param target el corte con el que se puede terminar.
+     * @param factory crea el WitnessTrial de cada hilo.
+     * @param checkpoint el checkpoint de la ejecución.
+     * @return el menor corte encontrado.
+     * @throws IllegalStateException si el checkpoint es de otra ejecución o
+     * de otro grafo.
+     * @throws java.io.UncheckedIOException si el checkpoint no se puede leer o
+     * escribir.
+     * @throws CancellationException si el hilo se interrumpe antes de
+     * terminar; el avance queda guardado en el checkpoint.
+     */
+    public CutResult runWithWitness(CompactGraph graph, int iterations, CutResult initial, int target, Supplier<? extends WitnessTrial> factory, Checkpoint checkpoint)
+    {
+        Record start = new Record(-1, initial);
+        int first = 0;
+        Checkpoint.State saved = checkpoint.load(seed, iterations, graph);
+        if(saved != null)
+        {
+            start = Record.min(start, new Record(saved.trial, saved.cut));
+            first = saved.watermark;
+        }
+
+        checkpoint.start(new Checkpoint.State(seed, iterations, graph.countNodes(), graph.countEdges(), graph.fingerprint(), first, start.trial, start.cut));
+        try
+        {
+            if(start.cut.getValue() <= target) { return start.cut; }
+
+            AtomicInteger best = new AtomicInteger(start.cut.getValue());
+            AtomicReference<Record> record = new AtomicReference<>(start);
+            execute(first, iterations, target, factory, best, record, checkpoint);
+            return record.get().cut;
+        }
+        finally
+        {
+            checkpoint.finish();
+        }
+    }
+
+    // reparte las repeticiones first..last-1 entre los hilos y espera a que
+    // terminen. Si checkpoint no es null, se le publica el avance. Si el hilo
+    // se interrumpe, detiene las repeticiones y lanza CancellationException
+    // (sin borrar la interrupción)...
+    private void execute(int first, int last, int target, Supplier<? extends Trial> factory, AtomicInteger best, AtomicReference<Record> record, Checkpoint checkpoint)
+    {
+        MinCutMetrics metrics = MinCutMetrics.getInstance();
+        MinCutMetrics.Run run = metrics.startRun(Math.max(0, last - first));
+        try
+        {
+            int size = chunk(last - first);
+            Blocks blocks = new Blocks(new SplittableRandom(seed), first, last, size);
+            int workers = (int) Math.min(parallelism, Math.max(0, ((long) last - first + size - 1) / size));
+            if(workers <= 1)
+            {
+                work(factory.get(), metrics.probe(run), blocks, target, best, record, checkpoint);
+            }
+            else
+            {
+                ExecutorService pool = Executors.newFixedThreadPool(workers);
+                try
+                {
+                    List<Future<?>> futures = new ArrayList<>();
+                    for(int w = 0; w < workers; w++)
+                    {
+                        futures.add(pool.submit(() -> work(factory.get(), metrics.probe(run), blocks, target, best, record, checkpoint)));
+                    }
+                    for(Future<?> f : futures) { f.get(); }
+                }
+                catch(InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+                catch(ExecutionException e)
+                {
+                    if(e.getCause() instanceof RuntimeException) { throw (RuntimeException) e.getCause(); }
+                    throw new IllegalStateException(e.getCause());
+                }
+                finally
+                {
+                    pool.shutdownNow();
+                }
+            }
+        }
+        finally
+        {
+            metrics.finishRun(run);
+        }
+
+        // las repeticiones se detuvieron antes de terminar: el mejor corte
+        // hasta aquí no es el resultado de la ejecución...
+        if(Thread.currentThread().isInterrupted()) { throw new CancellationException("Error: ejecución interrumpida..."); }
+    }
+
+    // el tamaño de los tramos en los que los hilos toman los trials: BLOCK, o
+    // menos si hay menos de 4 tramos por hilo, para que todos los hilos tengan
+    // trabajo aunque haya pocas repeticiones (por ejemplo, las de
+    // KargerStein). Los hilos sin tramos no se crean...
+    private int chunk(int trials)
+    {
+        return (int) Math.max(1, Math.min(BLOCK, trials / (4L * parallelism)));
+    }
+
+    /**
+     * Retorna la cantidad de repeticiones de Karger necesarias para que, en un
+     * grafo de <b>n</b> vértices, la probabilidad de no encontrar el corte 
+     * mínimo sea a lo sumo <b>failureProbability</b>. Cada repetición lo 
+     * encuentra con probabilidad al menos 1 / C(n, 2), de modo que alcanzan
+     * C(n, 2) * ln(1 / failureProbability) repeticiones. El resultado se 
+     * limita a Integer.MAX_VALUE.
+     * @param n la cantidad de vértices del grafo.
+     * @param failureProbability la probabilidad de falla aceptada, en (0, 1).
+     * @return la cantidad de repeticiones.
+     * @throws IllegalArgumentException si failureProbability no está en (0, 1).
+     */
+    public static int iterations(int n, double failureProbability)
+    {
+        if(!(failureProbability > 0 && failureProbability < 1)) { throw new IllegalArgumentException("Error: la probabilidad de falla debe estar en (0, 1)..."); }
+
+        double pairs = (double) n * (n - 1) / 2;
+        double trials = Math.ceil(pairs * Math.log(1 / failureProbability));
+        return trials >= Integer.MAX_VALUE ? Integer.MAX_VALUE : Math.max(1, (int) trials);
+    }
+
+    // toma bloques de trials pendientes hasta agotarlos (o hasta llegar a 
+    // target), actualizando el mejor corte, y también el mejor corte completo
+    // si record no es null (en ese caso trial es un WitnessTrial). Cada 
+    // repetición se mide con probe. Al terminar cada bloque, si checkpoint no
+    // es null, se le publica la nueva marca y el mejor corte. Al llegar a
+    // target sólo se descartan las repeticiones de número mayor: las
+    // anteriores, que pueden estar en otros hilos, terminan igual, como en una
+    // ejecución con un único hilo. Como target es una cota inferior, ninguna
+    // de ellas lo mejora, y la de menor número que lo alcanza es la que
+    // queda, sin importar la cantidad de hilos...
+    private void work(Trial trial, MinCutMetrics.Probe probe, Blocks blocks, int target, AtomicInteger best, AtomicReference<Record> record, Checkpoint checkpoint)
+    {
+        for(Block block = blocks.claim(); block != null; block = blocks.claim())
+        {
+            for(int i = block.first; i < block.last; i++)
+            {
+                if(Thread.currentThread().isInterrupted() || i > blocks.stop.get()) { return; }
+
+                SplittableRandom random = block.randoms[i - block.first];
+                probe.start();
+                int cut = trial.run(random);
+                probe.trialFinished(cut);
+                if(record != null && record.get().improves(cut, i))
+                {
+                    Record r = new Record(i, ((WitnessTrial) trial).witness(cut));
+                    record.accumulateAndGet(r, Record::min);
+                }
+                if(cut < best.get()) { best.accumulateAndGet(cut, Math::min); }
+                if(cut <= target) { blocks.stop.accumulateAndGet(i, Math::min); }
+            }
+            if(checkpoint != null)
+            {
+                int watermark = blocks.complete(block);
+                Record r = record.get();
+                checkpoint.update(watermark, r.trial, r.cut);
+            }
+        }
+    }
+
+    // un tramo: los trials first..last-1, de un mismo bloque, y sus
+    // generadores...
+    private static final class Block
+    {
+        private final int first;
+        private final int last;
+        private final SplittableRandom[] randoms;
+
+        Block(int first, int last, SplittableRandom[] randoms)
+        {
+            this.first = first;
+            this.last = last;
+            this.randoms = randoms;
+        }
+    }
+
+    // reparte los tramos en orden: el bloque b recibe el b-ésimo split() de
+    // master, y sus trials los sucesivos split() del generador del bloque, sin
+    // importar qué hilo los pida. Se sincroniza una vez por tramo, no por
+    // trial. Para empezar en el trial first (múltiplo de BLOCK) se descartan
+    // los generadores de los bloques anteriores. También lleva la marca:
+    // todos los trials anteriores a ella terminaron, y el primer trial que
+    // llegó a target: los posteriores ya no se ejecutan...
+    private static final class Blocks
+    {
+        private final SplittableRandom master;
+        private final int iterations;
+        private final int size;
+        private int next;
+        private final AtomicInteger stop = new AtomicInteger(Integer.MAX_VALUE);
+
+        // el generador del bloque del siguiente tramo...
+        private SplittableRandom block;
+
+        // los bloques terminados, los trials terminados de los bloques en
+        // curso, y el primer bloque que no terminó...
+        private final BitSet done = new BitSet();
+        private final HashMap<Integer, Integer> partial = new HashMap<>();
+        private int pending;
+
+        Blocks(SplittableRandom master, int first, int iterations, int size)
+        {
+            this.master = master;
+            this.iterations = iterations;
+            this.size = size;
+            this.next = first;
+            this.pending = first / BLOCK;
+            for(int b = 0; b < first / BLOCK; b++) { master.split(); }
+        }
+
+        // marca el tramo como terminado y retorna la marca...
+        synchronized int complete(Block block)
+        {
+            int b = block.first / BLOCK;
+            int count = partial.merge(b, block.last - block.first, Integer::sum);
+            if(count == Math.min(BLOCK, iterations - b * BLOCK))
+            {
+                partial.remove(b);
+                done.set(b);
+                pending = done.nextClearBit(pending);
+            }
+            return (int) Math.min((long) pending * BLOCK, iterations);
+        }
+
+        synchronized Block claim()
+        {
+            if(next >= iterations || next > stop.get()) { return null; }
+
+            int first = next;
+            if(first % BLOCK == 0) { block = master.split(); }
+            long end = (long) first / BLOCK * BLOCK + BLOCK;
+            next = (int) Math.min(Math.min((long) first + size, end), iterations);
+            SplittableRandom[] randoms = new SplittableRandom[next - first];
+            for(int i = 0; i < randoms.length; i++) { randoms[i] = block.split(); }
+            return new Block(first, next, randoms);
+        }
+    }
+
+    // un corte completo y el número de la repetición que lo encontró (-1 para
+    // el corte inicial)...
+    private static final class Record
+    {
+        private final int trial;
+        private final CutResult cut;
+
+        Record(int trial, CutResult cut)
+        {
+            this.trial = trial;
+            this.cut = cut;
+        }
+
+        // true si el corte de valor value de la repetición trial es mejor...
+        boolean improves(int value, int trial)
+        {
+            return value < cut.getValue() || (value == cut.getValue() && trial < this.trial);
+        }
+
+        static Record min(Record a, Record b)
+        {
+            return a.improves(b.cut.getValue(), b.trial) ? b : a;
+        }
+    }
+}
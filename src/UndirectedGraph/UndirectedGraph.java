@@ -1,10 +1,25 @@
 package UndirectedGraph;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
 
 
 public class UndirectedGraph<T> extends Graph<T> 
 {
+    // el corte mantenido por minimumCutMaintained(): uno de sus lados (un
+    // conjunto que no se modifica, sino que se reemplaza), o null si todavía
+    // no se pidió, y su valor. Si cutStale es true, un cambio pudo afectarlo y
+    // debe recalcularse...
+    private Set<T> cutSide;
+    private int cutValue;
+    private boolean cutStale;
+
     /**
      * Crea un grafo no dirigido, con lista de vértices vacía, lista de arcos 
      * vacía y sin permitir arcos paralelos.
@@ -68,52 +83,553 @@ public class UndirectedGraph<T> extends Graph<T>
     {
         return new UndirectedArc(in, en, w);
     }
-    private void contraction(Arc<T> arc){
-        Node<T> begin = arc.getInit();
-        Node<T> end = arc.getEnd();
+    
+    /**
+     * Calcula el corte mínimo con el algoritmo de Karger: repite 
+     * <b>iterations</b> veces la contracción aleatoria del grafo hasta que 
+     * quedan dos supernodos, y retorna la menor cantidad de arcos entre ellos.
+     * Las contracciones se hacen sobre un ContractionWorkspace, que se 
+     * restaura copiando arreglos en lugar de clonar el grafo, de modo que las
+     * repeticiones no crean objetos. La semilla se elige al azar; para repetir
+     * una ejecución, usar minimumCut(int, int, long).
+     * @param iterations la cantidad de repeticiones.
+     * @return el menor corte encontrado.
+     */
+    public int minimumCut(int iterations){
+        return minimumCut(iterations, 1, System.nanoTime());
+    }
+    
+    /**
+     * Calcula el corte mínimo igual que minimumCut(int), pero repartiendo las
+     * repeticiones entre <b>parallelism</b> hilos. Cada hilo trabaja sobre su
+     * propio ContractionWorkspace, y cada repetición con su propio generador
+     * aleatorio.
+     * @param iterations la cantidad de repeticiones.
+     * @param parallelism la cantidad de hilos a usar.
+     * @return el menor corte encontrado.
+     */
+    public int minimumCut(int iterations, int parallelism){
+        return minimumCut(iterations, parallelism, System.nanoTime());
+    }
+    
+    /**
+     * Calcula el corte mínimo repartiendo las repeticiones entre 
+     * <b>parallelism</b> hilos. El generador de cada repetición se deriva de
+     * <b>seed</b>, de modo que para una misma semilla el resultado es el mismo
+     * con cualquier cantidad de hilos. Si el grafo es denso (ver 
+     * DenseGraph.isDense()), las repeticiones se hacen sobre una matriz de 
+     * adyacencia en lugar de un ContractionWorkspace.
+     * @param iterations la cantidad de repeticiones.
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @return el menor corte encontrado.
+     */
+    public int minimumCut(int iterations, int parallelism, long seed){
+        CompactGraph g = new CompactGraph(this);
+        if(DenseGraph.isDense(g.countNodes(), g.countEdges())) { return g.minimumCut(iterations, parallelism, seed); }
+        
+        TrialRunner runner = new TrialRunner(parallelism, seed);
+        return runner.run(iterations, this.countEdges(), () -> new ContractionWorkspace(g));
+    }
+    
+    /**
+     * Calcula el corte mínimo igual que minimumCut(int), pero sin mover los
+     * arcos en cada repetición: los arcos se numeran una única vez, y cada 
+     * repetición los toma en orden aleatorio uniendo sus extremos en un 
+     * DisjointSet hasta que quedan dos supernodos (ver 
+     * CompactGraph.minimumCut(int)). Cada repetición cuesta O(m) y no crea 
+     * objetos.
+     * @param iterations la cantidad de repeticiones.
+     * @return el menor corte encontrado.
+     */
+    public int minimumCutDisjointSet(int iterations){
+        return new CompactGraph(this).minimumCut(iterations);
+    }
+    
+    /**
+     * Calcula el corte mínimo igual que minimumCutDisjointSet(int), 
+     * repartiendo las repeticiones entre <b>parallelism</b> hilos, con 
+     * generadores derivados de <b>seed</b>.
+     * @param iterations la cantidad de repeticiones.
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @return el menor corte encontrado.
+     */
+    public int minimumCutDisjointSet(int iterations, int parallelism, long seed){
+        return new CompactGraph(this).minimumCut(iterations, parallelism, seed);
+    }
+    
+    /**
+     * Calcula el corte mínimo igual que minimumCutDisjointSet(int), pero 
+     * retorna el corte completo: su valor, uno de sus lados y los arcos que lo
+     * cruzan (ver CompactGraph.minimumCutResult(int)). Los índices de vértices
+     * y de arcos siguen el orden de las listas del grafo.
+     * @param iterations la cantidad de repeticiones.
+     * @return el menor corte encontrado.
+     */
+    public CutResult minimumCutResult(int iterations){
+        return new CompactGraph(this).minimumCutResult(iterations);
+    }
+    
+    /**
+     * Calcula el corte mínimo completo igual que minimumCutResult(int), 
+     * repartiendo las repeticiones entre <b>parallelism</b> hilos, con 
+     * generadores derivados de <b>seed</b>.
+     * @param iterations la cantidad de repeticiones.
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @return el menor corte encontrado.
+     */
+    public CutResult minimumCutResult(int iterations, int parallelism, long seed){
+        return new CompactGraph(this).minimumCutResult(iterations, parallelism, seed);
+    }
+    
+    /**
+     * Calcula el corte mínimo completo igual que minimumCutResult(int, int, 
+     * long), guardando periódicamente el avance en <b>checkpoint</b>, de modo
+     * que una ejecución larga interrumpida se puede retomar llamando de nuevo
+     * con la misma semilla y el mismo checkpoint (ver la clase Checkpoint).
+     * @param iterations la cantidad de repeticiones.
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @param checkpoint el checkpoint de la ejecución.
+     * @return el menor corte encontrado.
+     */
+    public CutResult minimumCutResult(int iterations, int parallelism, long seed, Checkpoint checkpoint){
+        return new CompactGraph(this).minimumCutResult(iterations, parallelism, seed, checkpoint);
+    }
+    
+    /**
+     * Calcula el corte mínimo con el algoritmo de Karger, eligiendo la 
+     * cantidad de repeticiones según la probabilidad de falla aceptada en 
+     * lugar de recibirla, y terminando antes si se alcanza una cota inferior
+     * conocida (ver CompactGraph.minimumCutWithConfidence(double)).
+     * @param failureProbability la probabilidad de falla aceptada, en (0, 1).
+     * @return el menor corte encontrado.
+     */
+    public int minimumCutWithConfidence(double failureProbability){
+        return new CompactGraph(this).minimumCutWithConfidence(failureProbability);
+    }
+    
+    /**
+     * Calcula el corte mínimo igual que minimumCutWithConfidence(double), 
+     * repartiendo las repeticiones entre <b>parallelism</b> hilos, con 
+     * generadores derivados de <b>seed</b>.
+     * @param failureProbability la probabilidad de falla aceptada, en (0, 1).
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @return el menor corte encontrado.
+     */
+    public int minimumCutWithConfidence(double failureProbability, int parallelism, long seed){
+        return new CompactGraph(this).minimumCutWithConfidence(failureProbability, parallelism, seed);
+    }
+    
+    /**
+     * Calcula el corte mínimo completo igual que minimumCutResult(int), pero
+     * reduciendo antes el grafo (ver la clase Kernel), de modo que las 
+     * repeticiones trabajan sobre un grafo con menos vértices y arcos. Los 
+     * índices del corte retornado siguen el orden de las listas del grafo.
+     * @param iterations la cantidad de repeticiones.
+     * @return el menor corte encontrado.
+     */
+    public CutResult minimumCutKernelized(int iterations){
+        return minimumCutKernelized(iterations, 1, System.nanoTime());
+    }
+    
+    /**
+     * Calcula el corte mínimo igual que minimumCutKernelized(int), 
+     * repartiendo las repeticiones entre <b>parallelism</b> hilos, con 
+     * generadores derivados de <b>seed</b>.
+     * @param iterations la cantidad de repeticiones.
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @return el menor corte encontrado.
+     */
+    public CutResult minimumCutKernelized(int iterations, int parallelism, long seed){
+        return new CompactGraph(this).minimumCutKernelized(iterations, parallelism, seed);
+    }
+    
+    /**
+     * Calcula el corte mínimo con el algoritmo recursivo de Karger-Stein (ver
+     * la clase KargerStein), haciendo <b>iterations</b> ejecuciones 
+     * independientes. Cada ejecución es más costosa que una repetición de 
+     * minimumCut(int), pero acierta con probabilidad mucho mayor: alcanzan 
+     * unas pocas veces log² n ejecuciones.
+     * @param iterations la cantidad de ejecuciones.
+     * @return el menor corte encontrado.
+     */
+    public int minimumCutKargerStein(int iterations){
+        return new KargerStein(new CompactGraph(this)).minimumCut(iterations);
+    }
+    
+    /**
+     * Calcula el corte mínimo con el algoritmo de Karger-Stein, repartiendo 
+     * las <b>iterations</b> ejecuciones entre <b>parallelism</b> hilos, con
+     * generadores derivados de <b>seed</b>.
+     * @param iterations la cantidad de ejecuciones.
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @return el menor corte encontrado.
+     */
+    public int minimumCutKargerStein(int iterations, int parallelism, long seed){
+        return new KargerStein(new CompactGraph(this)).minimumCut(iterations, parallelism, seed);
+    }
+    
+    /**
+     * Calcula el corte mínimo exacto con el algoritmo determinístico de 
+     * Stoer-Wagner (ver la clase StoerWagner), usando el peso de cada arco. Si
+     * todos los arcos pesan 0 el grafo se toma como no ponderado, y cada arco
+     * cuenta 1. Los índices del lado retornado siguen el orden de la lista de
+     * vértices del grafo.
+     * @return el corte mínimo del grafo y uno de sus lados.
+     */
+    public CutResult minimumCutStoerWagner(){
+        return new StoerWagner(new CompactGraph(this)).minimumCut();
+    }
+    
+    /**
+     * Calcula el corte mínimo exacto con el algoritmo determinístico de 
+     * Nagamochi-Ibaraki (ver la clase NagamochiIbaraki), contando cada arco 
+     * como 1 igual que minimumCut(int), pero sin repeticiones ni azar.
+     * @return el corte mínimo del grafo.
+     */
+    public int minimumCutNagamochiIbaraki(){
+        return new NagamochiIbaraki(new CompactGraph(this)).minimumCut();
+    }
+    
+    /**
+     * Calcula un corte mínimo aproximado, muestreando los arcos (ver la clase
+     * SkeletonSampling): en grafos con un corte mínimo grande es mucho más 
+     * rápido que el cálculo exacto. El resultado trae un corte real del grafo
+     * y una cota inferior del corte mínimo que vale con probabilidad 
+     * 1 - failureProbability; menor <b>epsilon</b> acerca las cotas, a costa
+     * de un esqueleto más grande.
+     * @param epsilon la precisión del muestreo, en (0, 1).
+     * @param failureProbability la probabilidad de falla aceptada, en (0, 1).
+     * @return el corte encontrado, con su cota inferior y su confianza.
+     */
+    public ApproximateCut minimumCutApproximate(double epsilon, double failureProbability){
+        return minimumCutApproximate(epsilon, failureProbability, System.nanoTime());
+    }
+    
+    /**
+     * Calcula un corte mínimo aproximado igual que 
+     * minimumCutApproximate(double, double), muestreando con un generador 
+     * creado a partir de <b>seed</b>.
+     * @param epsilon la precisión del muestreo, en (0, 1).
+     * @param failureProbability la probabilidad de falla aceptada, en (0, 1).
+     * @param seed la semilla del muestreo.
+     * @return el corte encontrado, con su cota inferior y su confianza.
+     */
+    public ApproximateCut minimumCutApproximate(double epsilon, double failureProbability, long seed){
+        return new CompactGraph(this).minimumCutApproximate(epsilon, failureProbability, seed);
+    }
+
+    /**
+     * Retorna el corte mínimo del grafo (la menor cantidad de arcos entre dos
+     * conjuntos de vértices, sin usar los pesos), manteniéndolo entre cambios
+     * del grafo. La primera vez se calcula en forma exacta con Stoer-Wagner;
+     * después, cada arco o vértice que se agrega (con add() o addArc()) o
+     * arco que se quita (con remove() o removeArc()) actualiza el corte
+     * guardado en O(1) o en O(grado), y sólo si el cambio pudo afectarlo se
+     * marca para recalcular en la siguiente consulta:
+     * 
+     * - un arco agregado dentro de un lado del corte no cambia su valor, y
+     *   los demás cortes no bajan: el corte sigue siendo mínimo. Si cruza el
+     *   corte, el mínimo pasa a ser el mismo o uno más, y hay que recalcular.
+     * - un arco quitado que cruza el corte lo baja en uno, y ningún corte baja
+     *   más que eso: el corte sigue siendo mínimo. Si no lo cruza, el mínimo
+     *   es el mismo o uno menos; si uno de sus extremos queda con grado igual
+     *   al corte menos uno, ese vértice solo es el nuevo corte mínimo, y si no
+     *   hay que recalcular.
+     * - un vértice agregado (aislado) es un corte de valor 0.
+     * 
+     * Así una serie de cambios pequeños cuesta mucho menos que volver a
+     * calcular el corte desde cero.
+     * @return el valor del corte mínimo.
+     */
+    public int minimumCutMaintained(){
+        if(cutSide == null || cutStale){
+            List<T> values = new ArrayList<>(this.countNodes());
+            HashMap<T, Integer> id = new HashMap<>();
+            for(Node<T> v : this.vertices){
+                id.put(v.getValue(), values.size());
+                values.add(v.getValue());
+            }
+            
+            int m = this.countEdges();
+            int[] b = new int[m], e = new int[m];
+            for(int i = 0; i < m; i++){
+                b[i] = id.get(this.edges.get(i).getInit().getValue());
+                e[i] = id.get(this.edges.get(i).getEnd().getValue());
+            }
+            
+            CutResult r = new StoerWagner(new CompactGraph(values.size(), m, b, e)).minimumCut();
+            Set<T> side = new HashSet<>();
+            for(int v = r.getSide().nextSetBit(0); v >= 0; v = r.getSide().nextSetBit(v + 1)){
+                side.add(values.get(v));
+            }
+            cutSide = Collections.unmodifiableSet(side);
+            cutValue = r.getValue();
+            cutStale = false;
+        }
+        return cutValue;
+    }
+    
+    /**
+     * Retorna los valores de los vértices de uno de los lados del corte
+     * retornado por minimumCutMaintained(), recalculándolo si hace falta.
+     * @return uno de los lados del corte mínimo (no modificable).
+     */
+    public Set<T> minimumCutMaintainedSide(){
+        minimumCutMaintained();
+        return cutSide;
+    }
+    
+    /**
+     * Retorna true si el próximo minimumCutMaintained() debe recalcular el
+     * corte (porque no se calculó nunca, o un cambio pudo afectarlo).
+     * @return true si el corte mantenido debe recalcularse.
+     */
+    public boolean isMinimumCutStale(){
+        return cutSide == null || cutStale;
+    }
+    
+    /**
+     * Agrega el vértice <b>v</b> igual que Graph.add(Node), actualizando el
+     * corte mantenido (ver minimumCutMaintained()).
+     * @param v el vértice a insertar.
+     * @return true si la inserción tuvo éxito.
+     */
+    @Override
+    public boolean add(Node<T> v){
+        if(! super.add(v)) { return false; }
+        
+        if(cutSide != null){
+            if(this.countNodes() >= 2){
+                cutSide = Collections.singleton(v.getValue());
+                cutValue = 0;
+                cutStale = false;
+            }
+            else { cutStale = true; }
+        }
+        return true;
+    }
+    
+    /**
+     * Agrega el arco <b>a</b> igual que Graph.add(Arc), actualizando el corte
+     * mantenido (ver minimumCutMaintained()).
+     * @param a el arco a agregar en el grafo.
+     * @return true si la inserción tuvo éxito.
+     */
+    @Override
+    public boolean add(Arc<T> a){
+        if(! super.add(a)) { return false; }
         
-        Node<T> aux;
+        if(cutSide != null && ! cutStale && crosses(a)) { cutStale = true; }
+        return true;
+    }
+    
+    /**
+     * Quita el arco <b>a</b> igual que Graph.remove(Arc), actualizando el 
+     * corte mantenido (ver minimumCutMaintained()).
+     * @param a el arco a quitar.
+     * @return true si el arco estaba en el grafo.
+     */
+    @Override
+    public boolean remove(Arc<T> a){
+        if(! super.remove(a)) { return false; }
         
-        for(Arc<T> arcEnd: end.getArcs()){
-            if(arcEnd.equals(arc)) {
-                begin.getArcs().remove(arcEnd);}
-            else{
-              if(arcEnd.getInit().equals(end)){
-                    aux = arcEnd.getEnd();
-                }
-              else{
-                  aux = arcEnd.getInit();
-              }
-              this.addArc(begin, aux);
-              aux.getArcs().remove(arcEnd);
+        if(cutSide != null && ! cutStale){
+            if(crosses(a)) { cutValue--; }
+            else if(! a.getInit().getValue().equals(a.getEnd().getValue())){
+                Node<T> u = this.index.get(a.getInit().getValue());
+                Node<T> v = this.index.get(a.getEnd().getValue());
+                if(degree(u) < cutValue) { isolate(u); }
+                else if(degree(v) < cutValue) { isolate(v); }
+                else { cutStale = true; }
             }
-           this.edges.remove(arcEnd);
         }
-        begin.getArcs().remove(arc);
-        edges.remove(arc);
-        vertices.remove(end);
+        return true;
     }
-    private void contraction(){
-        contraction(this.getRandomArc());
+    
+    /**
+     * Quita un arco que une los vértices de valores <b>n1</b> y <b>n2</b> (en
+     * cualquier orden; si hay arcos paralelos, sólo uno de ellos), 
+     * actualizando el corte mantenido (ver minimumCutMaintained()).
+     * @param n1 el valor de uno de los extremos.
+     * @param n2 el valor del otro extremo.
+     * @return true si había un arco entre n1 y n2.
+     */
+    public boolean removeArc(T n1, T n2){
+        Node<T> u = this.index.get(n1);
+        Node<T> v = this.index.get(n2);
+        if(u == null || v == null) { return false; }
+        
+        for(Arc<T> a : u.getArcs()){
+            if(opposite(a, u).getValue().equals(n2)) { return this.remove(a); }
+        }
+        return false;
     }
-    public int minimumCut(int iterations){
-      int minCut = this.countEdges();
-      
-        for (int i = 0; i < iterations; i++) {
+    
+    // retorna true si a cruza el corte mantenido...
+    private boolean crosses(Arc<T> a){
+        return cutSide.contains(a.getInit().getValue()) != cutSide.contains(a.getEnd().getValue());
+    }
+    
+    // toma como corte mantenido al vértice v solo...
+    private void isolate(Node<T> v){
+        cutSide = Collections.singleton(v.getValue());
+        cutValue = degree(v);
+    }
+    
+    // la cantidad de arcos de v hacia otros vértices (sin auto ciclos)...
+    private static <T> int degree(Node<T> v){
+        int d = 0;
+        for(Arc<T> a : v.getArcs()){
+            if(a.getInit() != a.getEnd()) { d++; }
+        }
+        return d;
+    }
+    
+    /**
+     * Calcula el corte mínimo con el algoritmo de Karger, igual que 
+     * minimumCut(int), pero contrayendo supernodos ponderados: antes de empezar
+     * se arma un grafo con un único arco por cada par de vértices adyacentes, 
+     * cuyo peso es la cantidad de arcos paralelos entre ellos, y al contraer 
+     * los arcos que quedan paralelos se suman en uno solo. Los arcos se eligen
+     * con probabilidad proporcional a su peso (con un FenwickTree), lo que 
+     * equivale a elegir un arco al azar del multigrafo original. Así la 
+     * memoria de cada repetición depende de la cantidad de pares de supernodos
+     * adyacentes, y no de la cantidad de arcos paralelos.
+     * @param iterations la cantidad de repeticiones.
+     * @return el menor corte encontrado.
+     */
+    public int minimumCutWeighted(int iterations){
+        return minimumCutWeighted(iterations, 1, System.nanoTime());
+    }
+    
+    /**
+     * Calcula el corte mínimo igual que minimumCutWeighted(int), repartiendo 
+     * las repeticiones entre <b>parallelism</b> hilos, con generadores 
+     * derivados de <b>seed</b>.
+     * @param iterations la cantidad de repeticiones.
+     * @param parallelism la cantidad de hilos a usar.
+     * @param seed la semilla general.
+     * @return el menor corte encontrado.
+     */
+    public int minimumCutWeighted(int iterations, int parallelism, long seed){
+        UndirectedGraph<T> base = this.collapse();
+        TrialRunner runner = new TrialRunner(parallelism, seed);
+        return runner.run(iterations, this.countEdges(), () -> base::weightedTrial);
+    }
+    
+    // retorna un grafo con un único arco por cada par de vértices adyacentes,
+    // con peso igual a la cantidad de arcos entre ellos (sin auto ciclos)...
+    private UndirectedGraph<T> collapse(){
+        UndirectedGraph<T> base = new UndirectedGraph<>(true);
+        HashMap<T, Integer> id = new HashMap<>();
+        for(Node<T> v : this.vertices){
+            id.put(v.getValue(), id.size());
+            base.add(v.getValue());
+        }
+        
+        HashMap<Long, Arc<T>> pairs = new HashMap<>();
+        for(Arc<T> a : this.edges){
+            long x = id.get(a.getInit().getValue());
+            long y = id.get(a.getEnd().getValue());
+            if(x == y) { continue; }
+            
+            Long key = Math.min(x, y) << 32 | Math.max(x, y);
+            Arc<T> b = pairs.get(key);
+            if(b == null){
+                b = base.createArc(base.index.get(a.getInit().getValue()), base.index.get(a.getEnd().getValue()), 0);
+                base.add(b);
+                pairs.put(key, b);
+            }
+            b.setWeight(b.getWeight() + 1);
+        }
+        return base;
+    }
+    
+    // una copia del grafo con su tipo (clone() retorna Object)...
+    @SuppressWarnings("unchecked")
+    private UndirectedGraph<T> typedClone() throws CloneNotSupportedException{
+        return (UndirectedGraph<T>) this.clone();
+    }
+    
+    // una repetición sobre una copia del grafo ponderado: elige arcos según su
+    // peso hasta que quedan dos supernodos, y retorna el peso que los une...
+    private int weightedTrial(SplittableRandom random){
         try{
-          UndirectedGraph copy = (UndirectedGraph) this.clone();
-          while(copy.countNodes()>2){
-             copy.contraction();
-          }
-          if (copy.countEdges()<minCut) {
-              minCut = copy.countEdges();
-          }
-
+            UndirectedGraph<T> copy = typedClone();
+            FenwickTree tree = new FenwickTree(copy.countEdges());
+            for(int i = 0; i < copy.countEdges(); i++){
+                tree.set(i, copy.edges.get(i).getWeight());
+            }
+            
+            while(copy.countNodes()>2 && tree.total()>0){
+                Arc<T> arc = copy.edges.get(tree.find(random.nextInt((int) tree.total())));
+                copy.contraction(arc, tree);
+            }
+            return (int) tree.total();
         }
         catch(CloneNotSupportedException e){
-          System.out.println("Error: " + e.getLocalizedMessage());
-      }
+            System.out.println("Error: " + e.getLocalizedMessage());
+            return this.countEdges();
+        }
+    }
+    
+    // contrae arc uniendo end con begin: los arcos de end hacia vecinos de 
+    // begin se suman al arco de begin, y los demás se redirigen a begin...
+    private void contraction(Arc<T> arc, FenwickTree tree){
+        Node<T> begin = arc.getInit();
+        Node<T> end = arc.getEnd();
+        
+        HashMap<Node<T>, Arc<T>> adjacent = new HashMap<>();
+        for(Arc<T> a : begin.getArcs()){
+            adjacent.put(opposite(a, begin), a);
+        }
+        
+        for(Arc<T> arcEnd : end.getArcs()){
+            Node<T> aux = opposite(arcEnd, end);
+            Arc<T> arcBegin = adjacent.get(aux);
+            if(aux.equals(begin)){
+                removeArc(begin.getArcs(), arcEnd);
+                this.remove(arcEnd, tree);
+            }
+            else if(arcBegin != null){
+                arcBegin.setWeight(arcBegin.getWeight() + arcEnd.getWeight());
+                tree.set(arcBegin.position, arcBegin.getWeight());
+                removeArc(aux.getArcs(), arcEnd);
+                this.remove(arcEnd, tree);
+            }
+            else{
+                if(arcEnd.getInit().equals(end)) { arcEnd.setInit(begin); } else { arcEnd.setEnd(begin); }
+                begin.getArcs().add(arcEnd);
+                adjacent.put(aux, arcEnd);
+            }
         }
-        return minCut;
+        this.remove(end);
+    }
+    
+    // quita arc de la lista de arcos del grafo, manteniendo el árbol alineado
+    // con las posiciones del ArcList (el último arco pasa al lugar de arc)...
+    private void remove(Arc<T> arc, FenwickTree tree){
+        int p = arc.position;
+        int last = this.edges.size() - 1;
+        this.edges.remove(arc);
+        tree.set(last, 0);
+        if(p != last) { tree.set(p, this.edges.get(p).getWeight()); }
+    }
+    
+    // quita arc (el mismo objeto) de una lista de adyacencia...
+    private static <T> void removeArc(LinkedList<Arc<T>> list, Arc<T> arc){
+        list.removeIf(a -> a == arc);
+    }
+    
+    // retorna el extremo de arc distinto de v...
+    private static <T> Node<T> opposite(Arc<T> arc, Node<T> v){
+        return arc.getInit().equals(v) ? arc.getEnd() : arc.getInit();
     }
 }
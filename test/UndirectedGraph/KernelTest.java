@@ -0,0 +1,195 @@
+package UndirectedGraph;
+
+import java.util.BitSet;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compara los cortes de Kernel (getBound() y minimumCut()) con el corte
+ * mínimo de StoerWagner, con semillas fijas, en grafos que ejercitan cada
+ * reducción: arcos paralelos, cadenas de vértices de grado 2, puentes, grafos
+ * no conexos, y grafos densos en los que queda un núcleo.
+ *
+ * @author paula
+ */
+public class KernelTest
+{
+    // las repeticiones sobre el núcleo: los núcleos de estos grafos son
+    // chicos, así que alcanzan para encontrar el mínimo...
+    private static final int ITERATIONS = 2000;
+
+    // verifica el Kernel de g contra StoerWagner, y retorna si el resultado
+    // de la reducción era exacto...
+    private static boolean check(CompactGraph g, long seed)
+    {
+        int expected = new StoerWagner(g).minimumCut().getValue();
+        Kernel kernel = new Kernel(g);
+
+        // la cota es un corte real del grafo, y nunca menor que el mínimo...
+        CutResult bound = kernel.getBound();
+        assertEquals(bound.getValue(), count(g, bound.getSide()));
+        assertTrue(bound.getValue() >= expected);
+        if(kernel.isExact())
+        {
+            assertNull(kernel.getKernel());
+            assertEquals(expected, bound.getValue());
+        }
+        else
+        {
+            // el núcleo conserva un corte mínimo, salvo que la cota ya lo
+            // sea...
+            CutResult exact = kernel.expand(new NagamochiIbaraki(kernel.getKernel()).minimumCutResult().getSide());
+            assertEquals(exact.getValue(), count(g, exact.getSide()));
+            assertEquals(expected, Math.min(exact.getValue(), bound.getValue()));
+        }
+
+        CutResult cut = kernel.minimumCut(ITERATIONS, 2, seed);
+        assertEquals(expected, cut.getValue());
+        assertEquals(cut.getValue(), count(g, cut.getSide()));
+        assertEquals(cut.getValue(), cut.countCrossingEdges());
+        return kernel.isExact();
+    }
+
+    // la cantidad de arcos de g que cruzan el corte con el lado side...
+    private static int count(CompactGraph g, BitSet side)
+    {
+        int value = 0;
+        for(int a = 0; a < g.countEdges(); a++)
+        {
+            if(side.get(g.begin(a)) != side.get(g.end(a))) { value++; }
+        }
+        return value;
+    }
+
+    // un grafo conexo de n vértices (un ciclo) con extra arcos más al azar,
+    // corrido en offset...
+    private static void dense(Random random, int n, int extra, int offset, int[] b, int[] e, int first)
+    {
+        for(int v = 0; v < n; v++)
+        {
+            b[first + v] = offset + v;
+            e[first + v] = offset + (v + 1) % n;
+        }
+        for(int a = n; a < n + extra; a++)
+        {
+            b[first + a] = offset + random.nextInt(n);
+            e[first + a] = offset + random.nextInt(n);
+        }
+    }
+
+    @Test
+    public void testParallelEdges()
+    {
+        Random random = new Random(1);
+        for(int i = 0; i < 100; i++)
+        {
+            int n = 2 + random.nextInt(5);
+            check(NagamochiIbarakiTest.multigraph(random, n, 1 + random.nextInt(60)), i);
+        }
+    }
+
+    @Test
+    public void testChains()
+    {
+        // un núcleo denso con una cadena de vértices de grado 2 (o 2k si la
+        // cadena tiene k arcos paralelos) entre dos de sus vértices...
+        Random random = new Random(2);
+        for(int i = 0; i < 100; i++)
+        {
+            int core = 4 + random.nextInt(8), extra = core * (2 + random.nextInt(4));
+            int length = 1 + random.nextInt(10), copies = 1 + random.nextInt(3);
+            int n = core + length, m = core + extra + copies * (length + 1);
+            int[] b = new int[m], e = new int[m];
+            dense(random, core, extra, 0, b, e, 0);
+
+            int a = core + extra;
+            for(int k = 0; k < copies; k++)
+            {
+                int previous = 0;
+                for(int v = core; v < n; v++)
+                {
+                    b[a] = previous;
+                    e[a++] = v;
+                    previous = v;
+                }
+                b[a] = previous;
+                e[a++] = 1 + random.nextInt(core - 1);
+            }
+            check(new CompactGraph(n, m, b, e), i);
+        }
+    }
+
+    @Test
+    public void testBridges()
+    {
+        // dos grafos densos unidos por un único arco: el corte es 1...
+        Random random = new Random(3);
+        for(int i = 0; i < 50; i++)
+        {
+            int n1 = 3 + random.nextInt(10), n2 = 3 + random.nextInt(10);
+            int x1 = 3 * n1, x2 = 3 * n2, m = n1 + x1 + n2 + x2 + 1;
+            int[] b = new int[m], e = new int[m];
+            dense(random, n1, x1, 0, b, e, 0);
+            dense(random, n2, x2, n1, b, e, n1 + x1);
+            b[m - 1] = random.nextInt(n1);
+            e[m - 1] = n1 + random.nextInt(n2);
+
+            CompactGraph g = new CompactGraph(n1 + n2, m, b, e);
+            assertTrue(check(g, i));
+            assertEquals(1, new Kernel(g).getBound().getValue());
+        }
+    }
+
+    @Test
+    public void testDisconnected()
+    {
+        Random random = new Random(4);
+        for(int i = 0; i < 50; i++)
+        {
+            int n1 = 2 + random.nextInt(10), n2 = 1 + random.nextInt(10);
+            int m = n1 + 2 * n1 + n2 + 2 * n2;
+            int[] b = new int[m], e = new int[m];
+            dense(random, n1, 2 * n1, 0, b, e, 0);
+            dense(random, n2, 2 * n2, n1, b, e, 3 * n1);
+
+            CompactGraph g = new CompactGraph(n1 + n2, m, b, e);
+            assertTrue(check(g, i));
+            assertEquals(0, new Kernel(g).getBound().getValue());
+        }
+    }
+
+    @Test
+    public void testDense()
+    {
+        // multigrafos densos, en los que la reducción suele dejar un núcleo:
+        // se verifica que al menos alguno lo deje, para ejercitar
+        // minimumCut() sobre él...
+        Random random = new Random(5);
+        int kernels = 0;
+        for(int i = 0; i < 100; i++)
+        {
+            int n = 6 + random.nextInt(25);
+            int[] b = new int[n * 6], e = new int[n * 6];
+            dense(random, n, 5 * n, 0, b, e, 0);
+            if(! check(new CompactGraph(n, b.length, b, e), i)) { kernels++; }
+        }
+        assertTrue(kernels > 0);
+    }
+
+    @Test
+    public void testTrivial()
+    {
+        assertTrue(check(new CompactGraph(0, 0, new int[0], new int[0]), 0));
+        assertTrue(check(new CompactGraph(1, 1, new int[] { 0 }, new int[] { 0 }), 0));
+        assertTrue(check(new CompactGraph(2, 2, new int[] { 0, 1 }, new int[] { 1, 0 }), 0));
+
+        // un ciclo: cada vértice tiene grado 2, así que el corte es exacto...
+        int[] b = { 0, 1, 2, 3, 4 }, e = { 1, 2, 3, 4, 0 };
+        Kernel kernel = new Kernel(new CompactGraph(5, 5, b, e));
+        assertTrue(kernel.isExact());
+        assertEquals(2, kernel.getBound().getValue());
+    }
+}
@@ -0,0 +1,124 @@
+package UndirectedGraph;
+
+import java.util.BitSet;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compara el corte mínimo de NagamochiIbaraki con el de StoerWagner (que en
+ * un grafo no ponderado cuenta cada arco 1) en multigrafos al azar, con
+ * semillas fijas: arcos paralelos, lazos, grafos ralos y densos, y grafos no
+ * conexos.
+ *
+ * @author paula
+ */
+public class NagamochiIbarakiTest
+{
+    /**
+     * Retorna un multigrafo al azar de <b>n</b> vértices y <b>m</b> arcos,
+     * cuyos extremos se sortean con <b>random</b> (puede haber arcos
+     * paralelos y lazos).
+     * @param random el generador.
+     * @param n la cantidad de vértices.
+     * @param m la cantidad de arcos.
+     * @return el multigrafo.
+     */
+    static CompactGraph multigraph(Random random, int n, int m)
+    {
+        int[] b = new int[m], e = new int[m];
+        for(int a = 0; a < m; a++)
+        {
+            b[a] = random.nextInt(n);
+            e[a] = random.nextInt(n);
+        }
+        return new CompactGraph(n, m, b, e);
+    }
+
+    // verifica que el corte de NagamochiIbaraki valga lo mismo que el de
+    // StoerWagner, y que su valor sea la cantidad de arcos que lo cruzan...
+    private static void check(CompactGraph g)
+    {
+        CutResult expected = new StoerWagner(g).minimumCut();
+        CutResult cut = new NagamochiIbaraki(g).minimumCutResult();
+        assertEquals(expected.getValue(), cut.getValue());
+        assertEquals(cut.getValue(), cut.countCrossingEdges());
+        if(g.countNodes() < 2) { return; }
+
+        int crossing = 0;
+        BitSet side = cut.getSide();
+        for(int a = 0; a < g.countEdges(); a++)
+        {
+            if(side.get(g.begin(a)) != side.get(g.end(a))) { crossing++; }
+        }
+        assertEquals(cut.getValue(), crossing);
+        assertTrue("Error: el corte tiene un lado vacío...", side.cardinality() > 0 && side.cardinality() < g.countNodes());
+    }
+
+    @Test
+    public void testSparseMultigraphs()
+    {
+        Random random = new Random(1);
+        for(int i = 0; i < 200; i++)
+        {
+            int n = 2 + random.nextInt(30);
+            check(multigraph(random, n, n + random.nextInt(2 * n)));
+        }
+    }
+
+    @Test
+    public void testDenseMultigraphs()
+    {
+        Random random = new Random(2);
+        for(int i = 0; i < 100; i++)
+        {
+            int n = 2 + random.nextInt(20);
+            check(multigraph(random, n, n * (1 + random.nextInt(n))));
+        }
+    }
+
+    @Test
+    public void testParallelEdges()
+    {
+        // pocos vértices y muchos arcos: casi todos son paralelos...
+        Random random = new Random(3);
+        for(int i = 0; i < 100; i++)
+        {
+            int n = 2 + random.nextInt(4);
+            check(multigraph(random, n, 1 + random.nextInt(40)));
+        }
+    }
+
+    @Test
+    public void testDisconnected()
+    {
+        // dos multigrafos sin arcos entre ellos: el corte es 0...
+        Random random = new Random(4);
+        for(int i = 0; i < 50; i++)
+        {
+            int n = 2 + random.nextInt(10), m = 3 * n;
+            CompactGraph g = multigraph(random, n, m);
+            int[] b = new int[2 * m], e = new int[2 * m];
+            for(int a = 0; a < m; a++)
+            {
+                b[a] = g.begin(a);
+                e[a] = g.end(a);
+                b[m + a] = n + random.nextInt(n);
+                e[m + a] = n + random.nextInt(n);
+            }
+            CompactGraph union = new CompactGraph(2 * n, 2 * m, b, e);
+            check(union);
+            assertEquals(0, new NagamochiIbaraki(union).minimumCut());
+        }
+    }
+
+    @Test
+    public void testTrivial()
+    {
+        check(new CompactGraph(0, 0, new int[0], new int[0]));
+        check(new CompactGraph(1, 2, new int[] { 0, 0 }, new int[] { 0, 0 }));
+        check(new CompactGraph(2, 0, new int[0], new int[0]));
+        check(new CompactGraph(2, 3, new int[] { 0, 1, 0 }, new int[] { 1, 0, 0 }));
+    }
+}